@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.benchmark;
+
+import io.github.queerbric.inspecio.tooltip.BeesTooltipComponent;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading the bees of a beehive item.
+ * <p>
+ * Only the NBT stage is measured, loading the bee entities requires a client world.
+ * The {@code cacheKey} benchmark measures what a cache hit costs instead: hashing and comparing the bees NBT list.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeesBenchmark {
+	@Param({"1", "3"})
+	public int count;
+
+	private NbtList bees;
+	private NbtList cachedBees;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.initialize();
+
+		this.bees = new NbtList();
+		for (int i = 0; i < this.count; i++) {
+			var entity = new NbtCompound();
+			entity.putString("id", "minecraft:bee");
+			entity.putIntArray("UUID", new int[]{i, i, i, i});
+			entity.putFloat("Health", 10.f);
+			entity.putInt("Age", 0);
+			entity.putBoolean("HasNectar", i % 2 == 0);
+
+			var bee = new NbtCompound();
+			bee.put("EntityData", entity);
+			bee.putInt("TicksInHive", i * 100);
+			bee.putInt("MinOccupationTicks", 600);
+			this.bees.add(bee);
+		}
+
+		this.cachedBees = this.bees.copy();
+	}
+
+	@Benchmark
+	public List<BeesTooltipComponent.BeeData> readBees() {
+		return BeesTooltipComponent.readBees(this.bees);
+	}
+
+	@Benchmark
+	public boolean cacheKey() {
+		return this.bees.hashCode() == this.cachedBees.hashCode() && this.bees.equals(this.cachedBees);
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.benchmark;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtList;
+
+/**
+ * Provides the shared setup of the benchmarks, which run headless against the bootstrapped vanilla registries.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+final class BenchmarkBootstrap {
+	private static boolean initialized = false;
+
+	private BenchmarkBootstrap() {
+		throw new UnsupportedOperationException("BenchmarkBootstrap only contains static definitions.");
+	}
+
+	/**
+	 * Bootstraps the game registries, this must be called before any game class is used.
+	 */
+	static synchronized void initialize() {
+		if (initialized)
+			return;
+
+		SharedConstants.createGameVersion();
+		Bootstrap.initialize();
+		initialized = true;
+	}
+
+	/**
+	 * Creates the block entity NBT of a container.
+	 * <p>
+	 * Even slots hold enchanted books cycling through the given amount of distinct enchantment levels,
+	 * odd slots hold the same stack of stone.
+	 *
+	 * @param size the amount of filled slots
+	 * @param distinctBooks the amount of distinct enchanted books
+	 * @return the block entity NBT
+	 */
+	static NbtCompound createInventoryNbt(int size, int distinctBooks) {
+		var items = new NbtList();
+
+		for (int slot = 0; slot < size; slot++) {
+			ItemStack stack;
+
+			if (slot % 2 == 0) {
+				stack = new ItemStack(Items.ENCHANTED_BOOK);
+				var enchantment = new NbtCompound();
+				enchantment.putString("id", "minecraft:sharpness");
+				enchantment.putShort("lvl", (short) (1 + (slot / 2) % distinctBooks));
+				var enchantments = new NbtList();
+				enchantments.add(enchantment);
+				stack.getOrCreateNbt().put("StoredEnchantments", enchantments);
+			} else {
+				stack = new ItemStack(Items.STONE, 16);
+			}
+
+			var slotNbt = stack.writeNbt(new NbtCompound());
+			slotNbt.putByte("Slot", (byte) slot);
+			items.add(slotNbt);
+		}
+
+		var nbt = new NbtCompound();
+		nbt.put("Items", items);
+		return nbt;
+	}
+
+	/**
+	 * Creates a shulker box item stack holding the given block entity NBT.
+	 *
+	 * @param blockEntityNbt the block entity NBT
+	 * @return the shulker box item stack
+	 */
+	static ItemStack createShulkerBox(NbtCompound blockEntityNbt) {
+		var stack = new ItemStack(Items.SHULKER_BOX);
+		stack.setSubNbt(BlockItem.BLOCK_ENTITY_TAG_KEY, blockEntityNbt);
+		return stack;
+	}
+}
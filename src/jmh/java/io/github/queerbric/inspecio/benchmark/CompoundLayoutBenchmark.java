@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.benchmark;
+
+import io.github.queerbric.inspecio.tooltip.CompoundTooltipComponent;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.gui.tooltip.TooltipComponent;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.text.OrderedText;
+import net.minecraft.text.StringVisitable;
+import net.minecraft.text.Text;
+import org.joml.Matrix4f;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a frame of a compound tooltip, as drawn by the vanilla tooltip renderer, and counts the text width measurements per frame.
+ * <p>
+ * The children measure their text on every call like the status effect or jukebox tooltip components do.
+ * The layout is either kept across frames, or invalidated every frame which measures the children on every frame.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompoundLayoutBenchmark {
+	@Param({"2", "4", "8"})
+	public int children;
+	@Param({"false", "true"})
+	public boolean invalidateEveryFrame;
+
+	private CountingTextRenderer textRenderer;
+	private CompoundTooltipComponent compound;
+	private final Matrix4f matrix = new Matrix4f();
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.initialize();
+
+		this.textRenderer = new CountingTextRenderer();
+		this.compound = new CompoundTooltipComponent();
+
+		for (int i = 0; i < this.children; i++) {
+			this.compound.addComponent(new TextComponent(Text.literal("Line of text #" + i)));
+		}
+	}
+
+	@Benchmark
+	public int frame(WidthCounter counter) {
+		if (this.invalidateEveryFrame)
+			CompoundTooltipComponent.invalidateLayouts();
+
+		this.textRenderer.calls = 0;
+
+		// Mirrors the calls made by the vanilla tooltip renderer for a single component.
+		int width = this.compound.getWidth(this.textRenderer);
+		int height = this.compound.getHeight();
+		this.compound.drawText(this.textRenderer, 0, 0, this.matrix, null);
+
+		counter.widthCalls += this.textRenderer.calls;
+		return width + height;
+	}
+
+	/**
+	 * Reports the amount of text width measurements, divide by the amount of operations to get the measurements per frame.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class WidthCounter {
+		public long widthCalls;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			this.widthCalls = 0;
+		}
+	}
+
+	private static final class CountingTextRenderer extends TextRenderer {
+		private int calls;
+
+		private CountingTextRenderer() {
+			super(id -> null, false);
+		}
+
+		@Override
+		public int getWidth(String text) {
+			this.calls++;
+			return text.length() * 6;
+		}
+
+		@Override
+		public int getWidth(StringVisitable text) {
+			this.calls++;
+			return text.getString().length() * 6;
+		}
+
+		@Override
+		public int getWidth(OrderedText text) {
+			this.calls++;
+			return 0;
+		}
+	}
+
+	private record TextComponent(Text text) implements TooltipComponent {
+		@Override
+		public int getHeight() {
+			return 10;
+		}
+
+		@Override
+		public int getWidth(TextRenderer textRenderer) {
+			return textRenderer.getWidth(this.text);
+		}
+
+		@Override
+		public void drawText(TextRenderer textRenderer, int x, int y, Matrix4f matrix, VertexConsumerProvider.Immediate immediate) {
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.benchmark;
+
+import com.google.gson.JsonElement;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.JsonOps;
+import io.github.queerbric.inspecio.InspecioConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading and saving the configuration through its codec.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigCodecBenchmark {
+	private InspecioConfig config;
+	private JsonElement json;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.initialize();
+
+		this.config = InspecioConfig.defaultConfig();
+		this.json = InspecioConfig.CODEC.encodeStart(JsonOps.INSTANCE, this.config).getOrThrow(false, error -> {});
+	}
+
+	@Benchmark
+	public DataResult<InspecioConfig> load() {
+		return InspecioConfig.CODEC.parse(JsonOps.INSTANCE, this.json);
+	}
+
+	@Benchmark
+	public DataResult<JsonElement> save() {
+		return InspecioConfig.CODEC.encodeStart(JsonOps.INSTANCE, this.config);
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.benchmark;
+
+import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.InventoryNbtReader;
+import io.github.queerbric.inspecio.api.InventoryProvider;
+import io.github.queerbric.inspecio.tooltip.InventoryTooltipComponent;
+import net.minecraft.client.item.TooltipData;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading and compacting the inventory of a container item.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryBenchmark {
+	@Param({"27", "54", "216"})
+	public int size;
+
+	@Param({"1", "16"})
+	public int distinctBooks;
+
+	private NbtCompound nbt;
+	private ItemStack stack;
+	private InventoryProvider.Context context;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.initialize();
+
+		this.nbt = BenchmarkBootstrap.createInventoryNbt(this.size, this.distinctBooks);
+		this.stack = BenchmarkBootstrap.createShulkerBox(this.nbt);
+		this.context = new InventoryProvider.Context(Inspecio.readInventory(this.nbt, this.size), 9);
+	}
+
+	@Benchmark
+	public List<ItemStack> readInventory() {
+		return Inspecio.readInventory(this.nbt, this.size);
+	}
+
+	@Benchmark
+	public List<ItemStack> readCompacted() {
+		return InventoryNbtReader.readCompacted(this.nbt, this.size);
+	}
+
+	@Benchmark
+	public boolean isEmpty() {
+		return InventoryNbtReader.isEmpty(this.nbt, this.size);
+	}
+
+	@Benchmark
+	public Optional<TooltipData> tooltipCompact() {
+		return InventoryTooltipComponent.of(this.stack, true, this.context);
+	}
+
+	@Benchmark
+	public Optional<TooltipData> tooltipNonCompact() {
+		return InventoryTooltipComponent.of(this.stack, false, this.context);
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.benchmark;
+
+import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.InspecioConfig;
+import io.github.queerbric.inspecio.api.InventoryProvider;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the inventory provider lookup with a varying amount of registered providers.
+ * <p>
+ * All the providers but one do not apply to the hovered item, like providers registered by other mods for their own items.
+ * Those providers either apply to every item, or declare the items they handle and are skipped by the dispatch table.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// Providers are registered globally, each parameter set needs its own JVM.
+@Fork(1)
+public class InventoryProviderBenchmark {
+	@Param({"1", "5", "20"})
+	public int providers;
+	@Param({"false", "true"})
+	public boolean declared;
+
+	private ItemStack stack;
+	private InspecioConfig.StorageContainerConfig config;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.initialize();
+
+		this.stack = BenchmarkBootstrap.createShulkerBox(BenchmarkBootstrap.createInventoryNbt(27, 4));
+		this.config = InspecioConfig.defaultConfig().getContainersConfig().getShulkerBoxConfig();
+
+		for (int i = 1; i < this.providers; i++) {
+			InventoryProvider provider = (stack, config) -> stack.isOf(Items.BARREL) ? new InventoryProvider.Context(
+					Inspecio.readInventory(stack.getOrCreateSubNbt("BlockEntityTag"), 27), 9) : null;
+
+			if (this.declared) {
+				InventoryProvider.register(provider, item -> item == Items.BARREL);
+			} else {
+				InventoryProvider.register(provider);
+			}
+		}
+
+		InventoryProvider.register((stack, config) -> {
+			var inventory = Inspecio.readInventory(stack.getOrCreateSubNbt("BlockEntityTag"), 27);
+			return inventory == null ? null : new InventoryProvider.Context(inventory, 9);
+		});
+	}
+
+	@Benchmark
+	public InventoryProvider.Context searchInventoryContext() {
+		return InventoryProvider.searchInventoryContextOf(this.stack, this.config);
+	}
+}
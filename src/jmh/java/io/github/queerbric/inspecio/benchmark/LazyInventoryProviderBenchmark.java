@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.benchmark;
+
+import io.github.queerbric.inspecio.InspecioConfig;
+import io.github.queerbric.inspecio.InventoryNbtReader;
+import io.github.queerbric.inspecio.api.InventoryProvider;
+import io.github.queerbric.inspecio.api.LazyInventoryProvider;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the inventory provider lookup with a varying amount of registered providers which all apply to the hovered item.
+ * <p>
+ * Each provider reads a differently sized inventory, either eagerly or lazily, in which case only the biggest inventory is decoded.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// Providers are registered globally, each parameter set needs its own JVM.
+@Fork(1)
+public class LazyInventoryProviderBenchmark {
+	@Param({"1", "5", "20"})
+	public int providers;
+	@Param({"false", "true"})
+	public boolean lazy;
+
+	private ItemStack stack;
+	private InspecioConfig.StorageContainerConfig config;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.initialize();
+
+		this.stack = BenchmarkBootstrap.createShulkerBox(BenchmarkBootstrap.createInventoryNbt(27, 4));
+		this.config = InspecioConfig.defaultConfig().getContainersConfig().getShulkerBoxConfig();
+
+		for (int i = 0; i < this.providers; i++) {
+			int size = 27 - i;
+
+			if (this.lazy) {
+				LazyInventoryProvider.register((stack, config) -> new LazyInventoryProvider.LazyContext(size, () -> read(stack, size)));
+			} else {
+				InventoryProvider.register((stack, config) -> read(stack, size));
+			}
+		}
+	}
+
+	private static InventoryProvider.Context read(ItemStack stack, int size) {
+		var inventory = InventoryNbtReader.read(BlockItem.getBlockEntityNbtFromStack(stack), size);
+		return inventory == null ? null : new InventoryProvider.Context(inventory, 9);
+	}
+
+	@Benchmark
+	public InventoryProvider.Context searchInventoryContext() {
+		return InventoryProvider.searchInventoryContextOf(this.stack, this.config);
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.benchmark;
+
+import io.github.queerbric.inspecio.tooltip.SignTooltipComponent;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.nbt.NbtString;
+import net.minecraft.util.SignType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing the text of a sign item.
+ * <p>
+ * Hanging signs are used as regular signs require the client block entity models.
+ * The filter flag is passed in as there is no client in the benchmark.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignBenchmark {
+	private NbtCompound nbt;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.initialize();
+
+		this.nbt = new NbtCompound();
+		this.nbt.put("front_text", createText("Front"));
+		this.nbt.put("back_text", createText("Back"));
+	}
+
+	private static NbtCompound createText(String side) {
+		var messages = new NbtList();
+		for (int line = 0; line < 4; line++) {
+			messages.add(NbtString.of("{\"text\":\"" + side + " line " + line + "\",\"color\":\"gold\"}"));
+		}
+
+		var text = new NbtCompound();
+		text.put("messages", messages);
+		text.putString("color", "black");
+		text.putBoolean("has_glowing_text", false);
+		return text;
+	}
+
+	/**
+	 * Measures the parsing of the sign, the cache of parsed signs is cleared before each call.
+	 */
+	@Benchmark
+	public SignTooltipComponent<?> parse() {
+		SignTooltipComponent.clearCache();
+		return SignTooltipComponent.fromTag(SignType.OAK, this.nbt, true, false);
+	}
+
+	/**
+	 * Measures getting the sign from the cache of parsed signs.
+	 */
+	@Benchmark
+	public SignTooltipComponent<?> cacheHit() {
+		return SignTooltipComponent.fromTag(SignType.OAK, this.nbt, true, false);
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import io.github.queerbric.inspecio.api.InspectionContext;
+import io.github.queerbric.inspecio.tooltip.LoadingTooltipComponent;
+import net.minecraft.client.item.TooltipData;
+import net.minecraft.item.ItemStack;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Prepares heavy tooltip data on a small pool of worker threads.
+ * <p>
+ * Building tooltip data is split in three stages: the preparation stage runs on the render thread and does everything
+ * which reads game state, such as inventory provider selection and tag lookups, then returns a decoding task.
+ * The decoding task only decodes data and runs on a worker thread,
+ * and the finishing stage creates the tooltip data on the render thread once the decoding is done.
+ * While the decoding is running, a placeholder is displayed instead and the tooltip data is not cached,
+ * so the finished tooltip data is picked up on a later frame and cached like any other tooltip data.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public final class AsyncTooltipLoader {
+	private static final AtomicInteger WORKER_ID = new AtomicInteger();
+	private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+		var thread = new Thread(runnable, "Inspecio Tooltip Worker #" + WORKER_ID.incrementAndGet());
+		thread.setDaemon(true);
+		thread.setPriority(Thread.NORM_PRIORITY - 1);
+		return thread;
+	});
+	private static final LruCache<TooltipDataCache.Key, CompletableFuture<?>> PENDING = LruCache.create("async_tooltip", 64,
+			(key, future) -> future.cancel(false));
+
+	private AsyncTooltipLoader() {
+		throw new UnsupportedOperationException("AsyncTooltipLoader only contains static definitions.");
+	}
+
+	/**
+	 * Loads the tooltip data of the given item stack.
+	 * <p>
+	 * If asynchronous preparation is disabled or if the tooltip data cannot be cached, every stage runs immediately.
+	 *
+	 * @param stack the item stack
+	 * @param preparer the preparation stage, which always runs on the render thread and returns the decoding task,
+	 * it is given a copy of the item stack if the decoding task runs on a worker thread
+	 * @param finisher the finishing stage, which always runs on the render thread
+	 * @param <P> the type of the decoded data
+	 * @return the tooltip data, or a placeholder if the decoding is still running
+	 */
+	public static <P> Optional<TooltipData> load(ItemStack stack, Function<ItemStack, Supplier<P>> preparer,
+			Function<P, Optional<TooltipData>> finisher) {
+		var key = Inspecio.getSnapshot().has(ConfigSnapshot.Flag.ASYNC_PREPARATION) ? InspectionContext.of(stack).getCacheKey() : null;
+		if (key == null)
+			return finisher.apply(preparer.apply(stack).get());
+
+		@SuppressWarnings("unchecked")
+		var future = (CompletableFuture<P>) PENDING.get(key);
+
+		if (future == null) {
+			// The worker works on a copy as the stack may be modified on the render thread in the meantime.
+			var snapshot = stack.copy();
+			var task = preparer.apply(snapshot);
+			future = CompletableFuture.supplyAsync(() -> {
+				InspectionContext.begin(snapshot);
+
+				try {
+					return task.get();
+				} finally {
+					InspectionContext.end();
+				}
+			}, EXECUTOR);
+			PENDING.put(key.detach(), future);
+		}
+
+		if (!future.isDone())
+			return Optional.of(LoadingTooltipComponent.INSTANCE);
+
+		PENDING.remove(key);
+
+		try {
+			return finisher.apply(future.join());
+		} catch (CompletionException | CancellationException e) {
+			Inspecio.warn("Failed to prepare tooltip data of {}.", stack, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Forgets every pending decoding task, so their tooltip data is prepared again on the next request.
+	 * <p>
+	 * Tasks which have not started yet are cancelled, tasks which are already running on a worker are left to finish
+	 * but their result is discarded.
+	 */
+	public static void clear() {
+		RenderSystem.assertOnRenderThread();
+		PENDING.clear();
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio;
+
+import com.google.gson.JsonElement;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Saves the configuration in the background.
+ * <p>
+ * Saves are delayed and coalesced, a burst of changes results in a single write of the latest configuration.
+ * The configuration is encoded on the thread which schedules the save, the saver thread only writes the file.
+ * Pending saves are {@linkplain #flush() flushed} when the client stops.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public final class ConfigSaver {
+	private static final long DELAY_MILLIS = 250;
+	private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		var thread = new Thread(runnable, "Inspecio Config Saver");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private static @Nullable ScheduledFuture<?> pendingSave;
+	private static @Nullable JsonElement pendingConfig;
+
+	private ConfigSaver() {
+		throw new UnsupportedOperationException("ConfigSaver only contains static definitions.");
+	}
+
+	/**
+	 * Schedules a save of the current configuration, if a save is already pending it will save the latest configuration instead.
+	 * <p>
+	 * This must be called on the render thread, which is the thread that modifies the configuration.
+	 */
+	public static synchronized void schedule() {
+		var config = Inspecio.getConfig().encode();
+		if (config.isEmpty()) {
+			Inspecio.warn("Failed to serialize configuration.");
+			return;
+		}
+
+		pendingConfig = config.get();
+
+		if (pendingSave == null) {
+			pendingSave = EXECUTOR.schedule(ConfigSaver::save, DELAY_MILLIS, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Immediately saves the configuration if a save is pending.
+	 */
+	public static void flush() {
+		ScheduledFuture<?> save;
+
+		synchronized (ConfigSaver.class) {
+			save = pendingSave;
+		}
+
+		if (save == null)
+			return;
+
+		if (save.cancel(false)) {
+			save();
+		} else {
+			try {
+				// The save is already running, wait for it as the client may exit right after.
+				save.get(5, TimeUnit.SECONDS);
+			} catch (InterruptedException | ExecutionException | TimeoutException e) {
+				Inspecio.warn("Could not wait for the configuration to be saved.", e);
+			}
+		}
+	}
+
+	private static void save() {
+		JsonElement config;
+
+		synchronized (ConfigSaver.class) {
+			config = pendingConfig;
+			pendingSave = null;
+			pendingConfig = null;
+		}
+
+		// Any change made afterward schedules another save.
+		if (config != null)
+			InspecioConfig.write(config);
+	}
+}
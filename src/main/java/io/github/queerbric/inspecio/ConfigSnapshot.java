@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio;
+
+import net.minecraft.block.Block;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.function.Predicate;
+
+/**
+ * Represents an immutable snapshot of the configuration, compiled from {@link InspecioConfig} every time the configuration changes.
+ * <p>
+ * Boolean entries are flattened into a bitset and the other entries are copied into final fields,
+ * so the hot paths read a single object without going through the nested configurations.
+ * The per-container and per-entity configurations are {@linkplain InspecioConfig.StorageContainerConfig#readOnlyCopy() read-only copies},
+ * so they can be handed to tooltip components, inventory providers and worker threads.
+ * The current snapshot is published through {@link Inspecio#getSnapshot()}.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public final class ConfigSnapshot {
+	private final long flags;
+	private final JukeboxTooltipMode jukeboxTooltipMode;
+	private final SignTooltipMode signTooltipMode;
+	private final HiddenEffectMode hiddenEffectMode;
+	private final SaturationTooltipMode saturationMode;
+	private final int pufferFishPuffState;
+	private final int thumbnailAtlasSize;
+	private final int filledMapCacheSize;
+	private final InspecioConfig.StorageContainerConfig storageConfig;
+	private final InspecioConfig.ShulkerBoxConfig shulkerBoxConfig;
+	private final InspecioConfig.ChiseledBookshelfConfig chiseledBookshelfConfig;
+	private final InspecioConfig.EntityConfig armorStandConfig;
+	private final InspecioConfig.BeeEntityConfig beeConfig;
+	private final InspecioConfig.EntityConfig fishBucketConfig;
+	private final InspecioConfig.EntityConfig spawnEggConfig;
+	private final InspecioConfig.EntityConfig mobSpawnerConfig;
+
+	private ConfigSnapshot(InspecioConfig config) {
+		long flags = 0;
+
+		for (var flag : Flag.values()) {
+			if (flag.reader.test(config))
+				flags |= flag.mask;
+		}
+
+		this.flags = flags;
+		this.jukeboxTooltipMode = config.getJukeboxTooltipMode();
+		this.signTooltipMode = config.getSignTooltipMode();
+		this.hiddenEffectMode = config.getEffectsConfig().getHiddenEffectMode();
+		this.saturationMode = config.getFoodConfig().getSaturationMode();
+		this.pufferFishPuffState = config.getEntitiesConfig().getPufferFishPuffState();
+		this.thumbnailAtlasSize = config.getEntitiesConfig().getThumbnailAtlasSize();
+		this.filledMapCacheSize = config.getFilledMapConfig().getCacheSize();
+
+		var containersConfig = config.getContainersConfig();
+		this.storageConfig = containersConfig.getStorageConfig().readOnlyCopy();
+		this.shulkerBoxConfig = containersConfig.getShulkerBoxConfig().readOnlyCopy();
+		this.chiseledBookshelfConfig = containersConfig.getChiseledBookshelfConfig().readOnlyCopy();
+
+		var entitiesConfig = config.getEntitiesConfig();
+		this.armorStandConfig = entitiesConfig.getArmorStandConfig().readOnlyCopy();
+		this.beeConfig = entitiesConfig.getBeeConfig().readOnlyCopy();
+		this.fishBucketConfig = entitiesConfig.getFishBucketConfig().readOnlyCopy();
+		this.spawnEggConfig = entitiesConfig.getSpawnEggConfig().readOnlyCopy();
+		this.mobSpawnerConfig = entitiesConfig.getMobSpawnerConfig().readOnlyCopy();
+	}
+
+	/**
+	 * Compiles a snapshot of the given configuration.
+	 *
+	 * @param config the configuration
+	 * @return the snapshot
+	 */
+	public static ConfigSnapshot of(InspecioConfig config) {
+		return new ConfigSnapshot(config);
+	}
+
+	/**
+	 * {@return {@code true} if the given flag is set in this snapshot, or {@code false} otherwise}
+	 *
+	 * @param flag the flag
+	 */
+	public boolean has(Flag flag) {
+		return (this.flags & flag.mask) != 0;
+	}
+
+	public JukeboxTooltipMode getJukeboxTooltipMode() {
+		return this.jukeboxTooltipMode;
+	}
+
+	public SignTooltipMode getSignTooltipMode() {
+		return this.signTooltipMode;
+	}
+
+	public HiddenEffectMode getHiddenEffectMode() {
+		return this.hiddenEffectMode;
+	}
+
+	public SaturationTooltipMode getSaturationMode() {
+		return this.saturationMode;
+	}
+
+	public int getPufferFishPuffState() {
+		return this.pufferFishPuffState;
+	}
+
+	public int getThumbnailAtlasSize() {
+		return this.thumbnailAtlasSize;
+	}
+
+	public int getFilledMapCacheSize() {
+		return this.filledMapCacheSize;
+	}
+
+	public InspecioConfig.StorageContainerConfig getStorageConfig() {
+		return this.storageConfig;
+	}
+
+	public InspecioConfig.ShulkerBoxConfig getShulkerBoxConfig() {
+		return this.shulkerBoxConfig;
+	}
+
+	public InspecioConfig.ChiseledBookshelfConfig getChiseledBookshelfConfig() {
+		return this.chiseledBookshelfConfig;
+	}
+
+	/**
+	 * {@return the read-only configuration of the given container block, or {@code null} if the block is not a known container}
+	 *
+	 * @param block the container block
+	 * @see InspecioConfig.ContainersConfig#forBlock(Block)
+	 */
+	public @Nullable InspecioConfig.StorageContainerConfig getContainerConfig(Block block) {
+		return InspecioConfig.ContainersConfig.forBlock(block, this.storageConfig, this.shulkerBoxConfig);
+	}
+
+	public InspecioConfig.EntityConfig getArmorStandConfig() {
+		return this.armorStandConfig;
+	}
+
+	public InspecioConfig.BeeEntityConfig getBeeConfig() {
+		return this.beeConfig;
+	}
+
+	public InspecioConfig.EntityConfig getFishBucketConfig() {
+		return this.fishBucketConfig;
+	}
+
+	public InspecioConfig.EntityConfig getSpawnEggConfig() {
+		return this.spawnEggConfig;
+	}
+
+	public InspecioConfig.EntityConfig getMobSpawnerConfig() {
+		return this.mobSpawnerConfig;
+	}
+
+	/**
+	 * Represents the boolean entries of the configuration.
+	 */
+	public enum Flag {
+		ARMOR(InspecioConfig::hasArmor),
+		BANNER_PATTERN(InspecioConfig::hasBannerPattern),
+		PAINTING(InspecioConfig::hasPainting),
+		ASYNC_PREPARATION(InspecioConfig::hasAsyncPreparation),
+		CAMPFIRE(config -> config.getContainersConfig().isCampfireEnabled()),
+		POTIONS(config -> config.getEffectsConfig().hasPotions()),
+		TIPPED_ARROWS(config -> config.getEffectsConfig().hasTippedArrows()),
+		SPECTRAL_ARROW(config -> config.getEffectsConfig().hasSpectralArrow()),
+		FOOD_EFFECTS(config -> config.getEffectsConfig().hasFood()),
+		HIDDEN_MOTION(config -> config.getEffectsConfig().hasHiddenMotion()),
+		BEACON(config -> config.getEffectsConfig().hasBeacon()),
+		THUMBNAIL_ATLAS(config -> config.getEntitiesConfig().hasThumbnailAtlas()),
+		FILLED_MAP(config -> config.getFilledMapConfig().isEnabled()),
+		FILLED_MAP_PLAYER_ICON(config -> config.getFilledMapConfig().shouldShowPlayerIcon()),
+		FOOD(config -> config.getFoodConfig().isEnabled()),
+		HUNGER(config -> config.getFoodConfig().hasHunger()),
+		REPAIR_COST(config -> config.getAdvancedTooltipsConfig().hasRepairCost()),
+		LODESTONE_COORDS(config -> config.getAdvancedTooltipsConfig().hasLodestoneCoords());
+
+		private final long mask = 1L << this.ordinal();
+		private final Predicate<InspecioConfig> reader;
+
+		Flag(Predicate<InspecioConfig> reader) {
+			this.reader = reader;
+		}
+	}
+}
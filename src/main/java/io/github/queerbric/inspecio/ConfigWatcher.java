@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio;
+
+import com.mojang.serialization.JsonOps;
+import net.minecraft.client.MinecraftClient;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the configuration file and reloads it as soon as it changes, if {@linkplain InspecioConfig#hasHotReload() enabled}.
+ * <p>
+ * Changes are debounced, then the file is read and validated on the watcher thread.
+ * A valid configuration is published on the render thread, while an invalid one is logged and ignored.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public final class ConfigWatcher {
+	private static final long DEBOUNCE_MILLIS = 250;
+	private static @Nullable WatchService watchService;
+
+	private ConfigWatcher() {
+		throw new UnsupportedOperationException("ConfigWatcher only contains static definitions.");
+	}
+
+	/**
+	 * Starts or stops watching the configuration file depending on the given configuration.
+	 *
+	 * @param config the configuration
+	 */
+	public static synchronized void update(InspecioConfig config) {
+		if (config.hasHotReload() == (watchService != null))
+			return;
+
+		if (config.hasHotReload()) {
+			start();
+		} else {
+			stop();
+		}
+	}
+
+	private static void start() {
+		var directory = InspecioConfig.CONFIG_PATH.toAbsolutePath().getParent();
+
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+			directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		} catch (IOException e) {
+			Inspecio.warn("Could not watch the configuration directory.", e);
+			stop();
+			return;
+		}
+
+		var service = watchService;
+		var thread = new Thread(() -> watch(service), "Inspecio Config Watcher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private static void stop() {
+		if (watchService != null) {
+			try {
+				// Closing the watch service also stops the watcher thread.
+				watchService.close();
+			} catch (IOException e) {
+				Inspecio.warn("Could not stop watching the configuration directory.", e);
+			}
+
+			watchService = null;
+		}
+	}
+
+	private static void watch(WatchService service) {
+		var fileName = InspecioConfig.CONFIG_PATH.getFileName();
+
+		try {
+			while (true) {
+				var key = service.take();
+				boolean changed = false;
+
+				// Editors and tools usually write a file in several steps, wait until the directory has been quiet for a while.
+				while (key != null) {
+					for (var event : key.pollEvents()) {
+						if (event.context() instanceof Path path && path.equals(fileName))
+							changed = true;
+					}
+
+					key.reset();
+					key = service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+				}
+
+				if (changed)
+					reload();
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			// The watcher has been stopped.
+		}
+	}
+
+	private static void reload() {
+		InspecioConfig.read()
+				.resultOrPartial(error -> Inspecio.warn("Ignored invalid configuration change: " + error))
+				.ifPresent(config -> MinecraftClient.getInstance().execute(() -> {
+					var current = InspecioConfig.CODEC.encodeStart(JsonOps.INSTANCE, Inspecio.getConfig()).result();
+
+					// Our own saves also trigger the watcher.
+					if (current.equals(InspecioConfig.CODEC.encodeStart(JsonOps.INSTANCE, config).result()))
+						return;
+
+					Inspecio.log("Configuration file changed, reloading...");
+					Inspecio.publishConfig(config);
+				}));
+	}
+}
@@ -18,14 +18,20 @@
 package io.github.queerbric.inspecio;
 
 import io.github.queerbric.inspecio.api.InspecioEntrypoint;
+import io.github.queerbric.inspecio.api.InspectionContext;
 import io.github.queerbric.inspecio.api.InventoryProvider;
+import io.github.queerbric.inspecio.api.InventoryProviderManager;
+import io.github.queerbric.inspecio.api.LazyInventoryProvider;
+import io.github.queerbric.inspecio.tooltip.BannerTooltipComponent;
+import io.github.queerbric.inspecio.tooltip.BeesTooltipComponent;
+import io.github.queerbric.inspecio.tooltip.EntityPreviewPool;
+import io.github.queerbric.inspecio.tooltip.EntityThumbnailAtlas;
 import net.minecraft.block.Block;
 import net.minecraft.block.DispenserBlock;
 import net.minecraft.block.HopperBlock;
 import net.minecraft.block.ShulkerBoxBlock;
 import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffectInstance;
-import net.minecraft.inventory.Inventories;
 import net.minecraft.item.BlockItem;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -33,6 +39,7 @@ import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtElement;
 import net.minecraft.registry.RegistryKeys;
 import net.minecraft.registry.tag.TagKey;
+import net.minecraft.resource.ResourceType;
 import net.minecraft.text.Text;
 import net.minecraft.util.DyeColor;
 import net.minecraft.util.Formatting;
@@ -46,6 +53,7 @@ import org.jetbrains.annotations.Nullable;
 import org.quiltmc.loader.api.ModContainer;
 import org.quiltmc.loader.api.QuiltLoader;
 import org.quiltmc.qsl.base.api.entrypoint.client.ClientModInitializer;
+import org.quiltmc.qsl.resource.loader.api.ResourceLoader;
 import org.quiltmc.qsl.tag.api.QuiltTagKey;
 import org.quiltmc.qsl.tag.api.TagType;
 
@@ -67,7 +75,8 @@ public class Inspecio implements ClientModInitializer {
 	);
 	public static final RandomGenerator COMMON_RANDOM = new LegacySimpleRandom(System.currentTimeMillis());
 	public static final Identifier GUI_ICONS_TEXTURE = new Identifier("textures/gui/icons.png");
-	private static InspecioConfig config = InspecioConfig.defaultConfig();
+	private static volatile InspecioConfig config = InspecioConfig.defaultConfig();
+	private static volatile ConfigSnapshot snapshot = ConfigSnapshot.of(config);
 	private static ModContainer mod;
 
 	@Override
@@ -75,23 +84,35 @@ public class Inspecio implements ClientModInitializer {
 		Inspecio.mod = mod;
 		reloadConfig();
 
-		InventoryProvider.register((stack, config) -> {
+		LazyInventoryProvider.register((stack, config) -> {
 			if (config != null && config.isEnabled() && stack.getItem() instanceof BlockItem blockItem) {
 				DyeColor color = null;
 				if (blockItem.getBlock() instanceof ShulkerBoxBlock shulkerBoxBlock && ((InspecioConfig.ShulkerBoxConfig) config).hasColor())
 					color = shulkerBoxBlock.getColor();
 
-				var nbt = BlockItem.getBlockEntityNbtFromStack(stack);
+				var nbt = InspectionContext.of(stack).getBlockEntityNbt();
 				if (nbt == null) return null;
 
-				var inventory = readInventory(nbt, getInvSizeFor(stack));
-				if (inventory == null) return null;
-
-				return new InventoryProvider.Context(inventory, color);
+				int size = getInvSizeFor(stack);
+				if (InventoryNbtReader.isEmpty(nbt, size)) return null;
+
+				// The stacks are only decoded if this provider wins, compact tooltips only need one decoded stack per distinct stack.
+				// The size hint is always the slot count so compacting does not change which provider wins.
+				// The supplier only decodes the NBT of the inspected stack, so it may run on a worker thread.
+				boolean compact = config.isCompact();
+				var finalColor = color;
+				return new LazyInventoryProvider.LazyContext(size, () -> {
+					List<ItemStack> inventory = compact
+							? InventoryNbtReader.readCompacted(nbt, size)
+							: InventoryNbtReader.read(nbt, size);
+					return inventory == null ? null : new InventoryProvider.Context(inventory, finalColor);
+				}, true);
 			}
 
 			return null;
-		});
+		}, item -> item instanceof BlockItem);
+
+		ResourceLoader.get(ResourceType.CLIENT_RESOURCES).registerReloader(new TooltipCacheReloader());
 
 		var entrypoints = QuiltLoader.getEntrypoints("inspecio", InspecioEntrypoint.class);
 		for (var entrypoint : entrypoints) {
@@ -137,12 +158,64 @@ public class Inspecio implements ClientModInitializer {
 		LOGGER.warn("[Inspecio] " + info, throwable);
 	}
 
+	/**
+	 * Gets the mutable configuration, changes made to it are only visible to the snapshot once {@linkplain #publishConfig() published}.
+	 *
+	 * @return the configuration
+	 */
 	public static InspecioConfig getConfig() {
 		return config;
 	}
 
+	/**
+	 * Gets the snapshot of the configuration, which should be preferred in hot paths.
+	 *
+	 * @return the current configuration snapshot
+	 */
+	public static ConfigSnapshot getSnapshot() {
+		return snapshot;
+	}
+
 	static void reloadConfig() {
-		config = InspecioConfig.load();
+		publishConfig(InspecioConfig.load());
+	}
+
+	/**
+	 * Publishes a new snapshot of the configuration after it has been changed, and invalidates the tooltip data built with the previous one.
+	 */
+	static void publishConfig() {
+		snapshot = ConfigSnapshot.of(config);
+		TooltipDataCache.onConfigChanged();
+		ConfigWatcher.update(config);
+	}
+
+	/**
+	 * Replaces the configuration with the given one and publishes it.
+	 *
+	 * @param config the new configuration
+	 */
+	static void publishConfig(InspecioConfig config) {
+		Inspecio.config = config;
+		publishConfig();
+	}
+
+	/**
+	 * Called when the client joins or leaves a world, invalidates everything that may reference the previous world.
+	 */
+	public static void onWorldChanged() {
+		TooltipDataCache.onWorldChanged();
+		EntityPreviewPool.clear();
+		BeesTooltipComponent.clearCache();
+		EntityThumbnailAtlas.clear();
+	}
+
+	/**
+	 * Called when the tags are synchronized from the server, invalidates everything that depends on tags.
+	 */
+	public static void onTagsSynced() {
+		InventoryProviderManager.invalidate();
+		BannerTooltipComponent.clearCache();
+		TooltipDataCache.onWorldChanged();
 	}
 
 	static Consumer<String> onConfigError(String path) {
@@ -179,9 +252,10 @@ public class Inspecio implements ClientModInitializer {
 	 * @param tooltip the tooltip
 	 */
 	public static void appendBlockItemTooltip(ItemStack stack, Block block, List<Text> tooltip) {
-		var config = Inspecio.getConfig().getContainersConfig().forBlock(block);
+		var context = InspectionContext.of(stack);
+		var config = context.getConfig().getContainerConfig(block);
 		if (config != null && config.hasLootTable()) {
-			var blockEntityNbt = BlockItem.getBlockEntityNbtFromStack(stack);
+			var blockEntityNbt = context.getBlockEntityNbt();
 			if (blockEntityNbt != null && blockEntityNbt.contains("LootTable")) {
 				tooltip.add(Text.translatable("inspecio.tooltip.loot_table",
 								Text.literal(blockEntityNbt.getString("LootTable"))
@@ -231,23 +305,9 @@ public class Inspecio implements ClientModInitializer {
 	 * @param nbt the NBT to read
 	 * @param size the size of the inventory
 	 * @return {@code null} if the inventory is empty, or the inventory otherwise
+	 * @see InventoryNbtReader#read(NbtCompound, int)
 	 */
 	public static @Nullable DefaultedList<ItemStack> readInventory(NbtCompound nbt, int size) {
-		var inventory = DefaultedList.ofSize(size, ItemStack.EMPTY);
-		Inventories.readNbt(nbt, inventory);
-
-		boolean empty = true;
-		for (var item : inventory) {
-			if (!item.isEmpty()) {
-				empty = false;
-				break;
-			}
-		}
-
-		if (empty) {
-			return null;
-		}
-
-		return inventory;
+		return InventoryNbtReader.read(nbt, size);
 	}
 }
@@ -57,6 +57,10 @@ public final class InspecioCommand implements ClientCommandRegistrationCallback
 					.executes(onGetter("armor", getter(InspecioConfig::hasArmor)))
 					.then(argument("value", BoolArgumentType.bool())
 							.executes(onBooleanSetter("armor", setter(InspecioConfig::setArmor))))
+			).then(literal("async_preparation")
+					.executes(onGetter("async_preparation", getter(InspecioConfig::hasAsyncPreparation)))
+					.then(argument("value", BoolArgumentType.bool())
+							.executes(onBooleanSetter("async_preparation", setter(InspecioConfig::setAsyncPreparation))))
 			).then(literal("banner_pattern")
 					.executes(onGetter("banner_pattern", getter(InspecioConfig::hasBannerPattern)))
 					.then(argument("value", BoolArgumentType.bool())
@@ -125,6 +129,15 @@ public final class InspecioCommand implements ClientCommandRegistrationCallback
 							.executes(onGetter("entities/pufferfish_puff_state", getter(cfg -> cfg.getEntitiesConfig().getPufferFishPuffState())))
 							.then(argument("value", IntegerArgumentType.integer(0, 2))
 									.executes(onIntegerSetter("entities/pufferfish_puff_state", setter((cfg, val) -> cfg.getEntitiesConfig().setPufferFishPuffState(val))))))
+					.then(literal("thumbnail_atlas")
+							.executes(onGetter("entities/thumbnail_atlas", getter(cfg -> cfg.getEntitiesConfig().hasThumbnailAtlas())))
+							.then(argument("value", BoolArgumentType.bool())
+									.executes(onBooleanSetter("entities/thumbnail_atlas", setter((cfg, val) -> cfg.getEntitiesConfig().setThumbnailAtlas(val))))))
+					.then(literal("thumbnail_atlas_size")
+							.executes(onGetter("entities/thumbnail_atlas_size", getter(cfg -> cfg.getEntitiesConfig().getThumbnailAtlasSize())))
+							.then(argument("value", IntegerArgumentType.integer(InspecioConfig.EntitiesConfig.MIN_THUMBNAIL_ATLAS_SIZE,
+											InspecioConfig.EntitiesConfig.MAX_THUMBNAIL_ATLAS_SIZE))
+									.executes(onIntegerSetter("entities/thumbnail_atlas_size", setter((cfg, val) -> cfg.getEntitiesConfig().setThumbnailAtlasSize(val))))))
 			).then(literal("filled_map")
 					.executes(onGetter("filled_map", getter(cfg -> cfg.getFilledMapConfig().isEnabled())))
 					.then(argument("value", BoolArgumentType.bool())
@@ -133,6 +146,10 @@ public final class InspecioCommand implements ClientCommandRegistrationCallback
 							.executes(onGetter("filled_map/show_player_icon", getter(cfg -> cfg.getFilledMapConfig().shouldShowPlayerIcon())))
 							.then(argument("value", BoolArgumentType.bool())
 									.executes(onBooleanSetter("filled_map/show_player_icon", setter((cfg, val) -> cfg.getFilledMapConfig().setShowPlayerIcon(val))))))
+					.then(literal("cache_size")
+							.executes(onGetter("filled_map/cache_size", getter(cfg -> cfg.getFilledMapConfig().getCacheSize())))
+							.then(argument("value", IntegerArgumentType.integer(1, InspecioConfig.FilledMapConfig.MAX_CACHE_SIZE))
+									.executes(onIntegerSetter("filled_map/cache_size", setter((cfg, val) -> cfg.getFilledMapConfig().setCacheSize(val))))))
 			).then(literal("food")
 					.then(literal("hunger")
 							.executes(onGetter("food/hunger", getter(cfg -> cfg.getFoodConfig().hasHunger())))
@@ -142,6 +159,10 @@ public final class InspecioCommand implements ClientCommandRegistrationCallback
 							.executes(onGetter("food/saturation", getter(cfg -> cfg.getFoodConfig().getSaturationMode())))
 							.then(argument("value", SaturationTooltipMode.SaturationArgumentType.saturationTooltipMode())
 									.executes(InspecioCommand::onSetSaturation)))
+			).then(literal("hot_reload")
+					.executes(onGetter("hot_reload", getter(InspecioConfig::hasHotReload)))
+					.then(argument("value", BoolArgumentType.bool())
+							.executes(onBooleanSetter("hot_reload", setter(InspecioConfig::setHotReload))))
 			).then(literal("jukebox")
 					.executes(onGetter("jukebox", getter(InspecioConfig::getJukeboxTooltipMode)))
 					.then(argument("value", JukeboxTooltipMode.JukeboxArgumentType.jukeboxTooltipMode())
@@ -162,10 +183,45 @@ public final class InspecioCommand implements ClientCommandRegistrationCallback
 			);
 		}
 
+		var cacheSubCommand = literal("cache")
+				.executes(InspecioCommand::onCacheStatistics)
+				.then(literal("clear")
+						.executes(ctx -> {
+							LruCache.clearAll();
+							ctx.getSource().sendFeedback(Text.translatable("inspecio.cache.cleared").formatted(Formatting.GREEN));
+							return 0;
+						})
+				);
+
+		var statsSubCommand = literal("stats")
+				.executes(InspecioCommand::onTooltipStatistics)
+				.then(literal("enabled")
+						.executes(onGetter("stats/enabled", TooltipStats::isEnabled))
+						.then(argument("value", BoolArgumentType.bool())
+								.executes(ctx -> {
+									var value = BoolArgumentType.getBool(ctx, "value");
+									TooltipStats.setEnabled(value);
+									// Cached tooltip data must be rebuilt to be measured.
+									TooltipDataCache.onConfigChanged();
+									ctx.getSource().sendFeedback(prefix("stats/enabled").append(formatBoolean(value)));
+									return 0;
+								})
+						)
+				)
+				.then(literal("reset")
+						.executes(ctx -> {
+							TooltipStats.reset();
+							ctx.getSource().sendFeedback(Text.translatable("inspecio.stats.reset").formatted(Formatting.GREEN));
+							return 0;
+						})
+				);
+
 		dispatcher.register(
 				literal("inspecio")
 						.executes(onInspecioCommand(literalSubCommand.build()))
 						.then(literalSubCommand)
+						.then(cacheSubCommand)
+						.then(statsSubCommand)
 		);
 	}
 
@@ -183,7 +239,11 @@ public final class InspecioCommand implements ClientCommandRegistrationCallback
 				.then(literal("loot_table")
 						.executes(onGetter(prefix + "/loot_table", () -> containerGetter.apply(Inspecio.getConfig()).hasLootTable()))
 						.then(argument("value", BoolArgumentType.bool())
-								.executes(onBooleanSetter(prefix + "/loot_table", val -> containerGetter.apply(Inspecio.getConfig()).setLootTable(val)))));
+								.executes(onBooleanSetter(prefix + "/loot_table", val -> containerGetter.apply(Inspecio.getConfig()).setLootTable(val)))))
+				.then(literal("max_rows")
+						.executes(onGetter(prefix + "/max_rows", () -> containerGetter.apply(Inspecio.getConfig()).getMaxRows()))
+						.then(argument("value", IntegerArgumentType.integer(1, InspecioConfig.StorageContainerConfig.MAX_MAX_ROWS))
+								.executes(onIntegerSetter(prefix + "/max_rows", val -> containerGetter.apply(Inspecio.getConfig()).setMaxRows(val)))));
 	}
 
 	private static LiteralArgumentBuilder<QuiltClientCommandSource> initEntity(String name,
@@ -232,7 +292,7 @@ public final class InspecioCommand implements ClientCommandRegistrationCallback
 		var value = JukeboxTooltipMode.JukeboxArgumentType.getJukeboxTooltipMode(context, "value");
 		var config = Inspecio.getConfig();
 		config.setJukeboxTooltipMode(value);
-		config.save();
+		saveConfig();
 		context.getSource().sendFeedback(prefix("jukebox").append(Text.literal(value.toString()).formatted(Formatting.WHITE)));
 		return 0;
 	}
@@ -241,7 +301,7 @@ public final class InspecioCommand implements ClientCommandRegistrationCallback
 		var value = SaturationTooltipMode.SaturationArgumentType.getSaturationTooltipMode(context, "value");
 		var config = Inspecio.getConfig();
 		config.getFoodConfig().setSaturationMode(value);
-		config.save();
+		saveConfig();
 		context.getSource().sendFeedback(prefix("food/saturation").append(Text.literal(value.toString()).formatted(Formatting.WHITE)));
 		return 0;
 	}
@@ -250,7 +310,7 @@ public final class InspecioCommand implements ClientCommandRegistrationCallback
 		var value = SignTooltipMode.SignArgumentType.getSignTooltipMode(context, "value");
 		var config = Inspecio.getConfig();
 		config.setSignTooltipMode(value);
-		config.save();
+		saveConfig();
 		context.getSource().sendFeedback(prefix("sign").append(Text.literal(value.toString()).formatted(Formatting.WHITE)));
 		return 0;
 	}
@@ -259,11 +319,54 @@ public final class InspecioCommand implements ClientCommandRegistrationCallback
 		var value = HiddenEffectMode.HiddenEffectType.getHiddenEffectMode(context, "value");
 		var config = Inspecio.getConfig().getEffectsConfig();
 		config.setHiddenEffectMode(value);
-		Inspecio.getConfig().save();
+		saveConfig();
 		context.getSource().sendFeedback(prefix("effects/hidden_effect_mode").append(Text.literal(value.toString()).formatted(Formatting.WHITE)));
 		return 0;
 	}
 
+	private static int onCacheStatistics(CommandContext<QuiltClientCommandSource> context) {
+		for (var cache : LruCache.getCaches()) {
+			context.getSource().sendFeedback(prefix("cache/" + cache.getName())
+					.append(Text.literal(cache.size() + "/" + cache.getMaxSize()).formatted(Formatting.WHITE))
+					.append(Text.literal(" hits: ").formatted(Formatting.GRAY))
+					.append(Text.literal(String.valueOf(cache.getHits())).formatted(Formatting.GREEN))
+					.append(Text.literal(" misses: ").formatted(Formatting.GRAY))
+					.append(Text.literal(String.valueOf(cache.getMisses())).formatted(Formatting.RED))
+					.append(Text.literal(" evictions: ").formatted(Formatting.GRAY))
+					.append(Text.literal(String.valueOf(cache.getEvictions())).formatted(Formatting.WHITE)));
+		}
+		return 0;
+	}
+
+	private static int onTooltipStatistics(CommandContext<QuiltClientCommandSource> context) {
+		var histograms = TooltipStats.getHistograms();
+
+		if (histograms.isEmpty()) {
+			context.getSource().sendFeedback(Text.translatable(TooltipStats.isEnabled() ? "inspecio.stats.empty" : "inspecio.stats.disabled")
+					.formatted(Formatting.GRAY));
+			return 0;
+		}
+
+		histograms.forEach((name, histogram) -> context.getSource().sendFeedback(prefix("stats/" + name)
+				.append(Text.literal(String.valueOf(histogram.getCount())).formatted(Formatting.WHITE))
+				.append(Text.literal(" p50: ").formatted(Formatting.GRAY))
+				.append(formatMicros(histogram.getPercentile(0.5)))
+				.append(Text.literal(" p99: ").formatted(Formatting.GRAY))
+				.append(formatMicros(histogram.getPercentile(0.99)))
+				.append(Text.literal(" max: ").formatted(Formatting.GRAY))
+				.append(formatMicros(histogram.getMax()))));
+		return 0;
+	}
+
+	private static Text formatMicros(double micros) {
+		return Text.literal(String.format("%.1fµs", micros)).formatted(Formatting.WHITE);
+	}
+
+	private static void saveConfig() {
+		ConfigSaver.schedule();
+		Inspecio.publishConfig();
+	}
+
 	private static MutableText prefix(String path) {
 		return Text.literal(path).formatted(Formatting.GOLD).append(Text.literal(": ").formatted(Formatting.GRAY));
 	}
@@ -297,7 +400,7 @@ public final class InspecioCommand implements ClientCommandRegistrationCallback
 
 			setter.accept(value);
 
-			Inspecio.getConfig().save();
+			saveConfig();
 
 			context.getSource().sendFeedback(prefix(path).append(formatBoolean(value)));
 
@@ -311,7 +414,7 @@ public final class InspecioCommand implements ClientCommandRegistrationCallback
 
 			setter.accept(value);
 
-			Inspecio.getConfig().save();
+			saveConfig();
 
 			context.getSource().sendFeedback(prefix(path).append(Text.literal(String.valueOf(value)).formatted(Formatting.WHITE)));
 
@@ -19,9 +19,12 @@ package io.github.queerbric.inspecio;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
 import com.mojang.serialization.JsonOps;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.block.*;
@@ -30,6 +33,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.nio.file.*;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -39,7 +43,7 @@ import java.util.function.Supplier;
  * Uses Codec for serialization/deserialization.
  *
  * @author LambdAurora
- * @version 1.8.0
+ * @version 1.9.0
  * @since 1.0.0
  */
 // @TODO rework this to be more expandable?
@@ -50,6 +54,8 @@ public class InspecioConfig {
 	public static final boolean DEFAULT_ARMOR = true;
 	public static final boolean DEFAULT_BANNER_PATTERN = true;
 	public static final boolean DEFAULT_PAINTING = true;
+	public static final boolean DEFAULT_ASYNC_PREPARATION = false;
+	public static final boolean DEFAULT_HOT_RELOAD = false;
 	public static final JukeboxTooltipMode DEFAULT_JUKEBOX_TOOLTIP_MODE = JukeboxTooltipMode.FANCY;
 	public static final SignTooltipMode DEFAULT_SIGN_TOOLTIP_MODE = SignTooltipMode.FANCY;
 
@@ -64,7 +70,9 @@ public class InspecioConfig {
 			configEntry(FoodConfig.CODEC, "food", FoodConfig::defaultConfig, InspecioConfig::getFoodConfig),
 			configEntry(JukeboxTooltipMode.CODEC, "jukebox", () -> DEFAULT_JUKEBOX_TOOLTIP_MODE, InspecioConfig::getJukeboxTooltipMode),
 			configEntry(SignTooltipMode.CODEC, "sign", () -> DEFAULT_SIGN_TOOLTIP_MODE, InspecioConfig::getSignTooltipMode),
-			configEntry(AdvancedTooltipsConfig.CODEC, "advanced_tooltips", AdvancedTooltipsConfig::defaultConfig, InspecioConfig::getAdvancedTooltipsConfig)
+			configEntry(AdvancedTooltipsConfig.CODEC, "advanced_tooltips", AdvancedTooltipsConfig::defaultConfig, InspecioConfig::getAdvancedTooltipsConfig),
+			configEntry("async_preparation", DEFAULT_ASYNC_PREPARATION, InspecioConfig::hasAsyncPreparation),
+			configEntry("hot_reload", DEFAULT_HOT_RELOAD, InspecioConfig::hasHotReload)
 	).apply(instance, InspecioConfig::new));
 
 	static boolean shouldSaveConfigAfterLoad = false;
@@ -92,6 +100,8 @@ public class InspecioConfig {
 	private JukeboxTooltipMode jukeboxTooltipMode;
 	private SignTooltipMode signTooltipMode;
 	private final AdvancedTooltipsConfig advancedTooltipsConfig;
+	private boolean asyncPreparation;
+	private boolean hotReload;
 
 	public InspecioConfig(boolean armor, boolean bannerPattern, boolean painting,
 			ContainersConfig containersConfig,
@@ -102,6 +112,21 @@ public class InspecioConfig {
 			JukeboxTooltipMode jukeboxTooltipMode,
 			SignTooltipMode signTooltipMode,
 			AdvancedTooltipsConfig advancedTooltipsConfig) {
+		this(armor, bannerPattern, painting, containersConfig, effectsConfig, entitiesConfig, filledMapConfig, foodConfig,
+				jukeboxTooltipMode, signTooltipMode, advancedTooltipsConfig, DEFAULT_ASYNC_PREPARATION, DEFAULT_HOT_RELOAD);
+	}
+
+	public InspecioConfig(boolean armor, boolean bannerPattern, boolean painting,
+			ContainersConfig containersConfig,
+			EffectsConfig effectsConfig,
+			EntitiesConfig entitiesConfig,
+			FilledMapConfig filledMapConfig,
+			FoodConfig foodConfig,
+			JukeboxTooltipMode jukeboxTooltipMode,
+			SignTooltipMode signTooltipMode,
+			AdvancedTooltipsConfig advancedTooltipsConfig,
+			boolean asyncPreparation,
+			boolean hotReload) {
 		this.armor = armor;
 		this.bannerPattern = bannerPattern;
 		this.painting = painting;
@@ -113,6 +138,8 @@ public class InspecioConfig {
 		this.jukeboxTooltipMode = jukeboxTooltipMode;
 		this.signTooltipMode = signTooltipMode;
 		this.advancedTooltipsConfig = advancedTooltipsConfig;
+		this.asyncPreparation = asyncPreparation;
+		this.hotReload = hotReload;
 	}
 
 	public boolean hasArmor() {
@@ -179,30 +206,95 @@ public class InspecioConfig {
 		return this.advancedTooltipsConfig;
 	}
 
+	/**
+	 * {@return {@code true} if heavy tooltip data is prepared on worker threads while a placeholder is displayed, or {@code false} otherwise}
+	 */
+	public boolean hasAsyncPreparation() {
+		return this.asyncPreparation;
+	}
+
+	public void setAsyncPreparation(boolean asyncPreparation) {
+		this.asyncPreparation = asyncPreparation;
+	}
+
+	/**
+	 * {@return {@code true} if the configuration file is watched and reloaded as soon as it changes, or {@code false} otherwise}
+	 */
+	public boolean hasHotReload() {
+		return this.hotReload;
+	}
+
+	public void setHotReload(boolean hotReload) {
+		this.hotReload = hotReload;
+	}
+
 	/**
 	 * Saves the configuration to file.
+	 * <p>
+	 * From the render thread, {@link ConfigSaver#schedule()} should be preferred.
 	 *
 	 * @return the current configuration
+	 * @see #write(JsonElement)
 	 */
 	public InspecioConfig save() {
-		Inspecio.log("Saving configuration...");
-		if (!createConfigDirectoryIfNeeded())
-			return this;
-
-		var config = CODEC.encode(this, JsonOps.INSTANCE, JsonOps.INSTANCE.empty()).result();
+		var config = this.encode();
 		if (config.isEmpty()) {
 			Inspecio.warn("Failed to serialize configuration.");
 			return this;
 		}
-		try (var writer = Files.newBufferedWriter(CONFIG_PATH, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
-			var jsonWriter = GSON.newJsonWriter(writer);
-			GSON.toJson(config.get().getAsJsonObject(), jsonWriter);
-		} catch (IOException e) {
-			Inspecio.warn("Failed to save configuration.", e);
-		}
+
+		write(config.get());
 		return this;
 	}
 
+	/**
+	 * Encodes the configuration into JSON.
+	 * <p>
+	 * The configuration is mutable, this must be called on the thread which modifies it.
+	 *
+	 * @return the encoded configuration if it could be serialized, or an empty optional otherwise
+	 */
+	public Optional<JsonElement> encode() {
+		return CODEC.encode(this, JsonOps.INSTANCE, JsonOps.INSTANCE.empty()).result();
+	}
+
+	/**
+	 * Writes the given encoded configuration to file.
+	 * <p>
+	 * The configuration is written to a temporary file which is then moved in place,
+	 * so a crash in the middle of the write never leaves a truncated configuration file behind.
+	 *
+	 * @param config the encoded configuration
+	 */
+	static void write(JsonElement config) {
+		Inspecio.log("Saving configuration...");
+		if (!createConfigDirectoryIfNeeded())
+			return;
+
+		synchronized (InspecioConfig.class) {
+			var tempPath = CONFIG_PATH.resolveSibling(CONFIG_PATH.getFileName() + ".tmp");
+
+			try {
+				try (var writer = Files.newBufferedWriter(tempPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+					var jsonWriter = GSON.newJsonWriter(writer);
+					GSON.toJson(config.getAsJsonObject(), jsonWriter);
+				}
+
+				move(tempPath, CONFIG_PATH);
+			} catch (IOException e) {
+				Inspecio.warn("Failed to save configuration.", e);
+			}
+		}
+	}
+
+	private static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
 	public static class ContainersConfig {
 		public static final boolean DEFAULT_CAMPFIRE = true;
 
@@ -249,12 +341,16 @@ public class InspecioConfig {
 		}
 
 		public @Nullable StorageContainerConfig forBlock(Block block) {
+			return forBlock(block, this.getStorageConfig(), this.getShulkerBoxConfig());
+		}
+
+		static @Nullable StorageContainerConfig forBlock(Block block, StorageContainerConfig storageConfig, ShulkerBoxConfig shulkerBoxConfig) {
 			InspecioConfig.StorageContainerConfig config = null;
 			if (block instanceof ChestBlock
 					|| block instanceof BarrelBlock
 					|| block instanceof DispenserBlock
-					|| block instanceof HopperBlock) config = this.getStorageConfig();
-			else if (block instanceof ShulkerBoxBlock) config = this.getShulkerBoxConfig();
+					|| block instanceof HopperBlock) config = storageConfig;
+			else if (block instanceof ShulkerBoxBlock) config = shulkerBoxConfig;
 			return config;
 		}
 
@@ -268,21 +364,32 @@ public class InspecioConfig {
 		public static final boolean DEFAULT_ENABLED = true;
 		public static final boolean DEFAULT_COMPACT = false;
 		public static final boolean DEFAULT_LOOT_TABLE = true;
+		public static final int DEFAULT_MAX_ROWS = 6;
+		public static final int MAX_MAX_ROWS = 64;
+		static final Codec<Integer> MAX_ROWS_CODEC = Codec.intRange(1, MAX_MAX_ROWS);
 
 		public static final Codec<StorageContainerConfig> CODEC = RecordCodecBuilder.create(instance -> instance.group(
 				configEntry("containers/storage/enabled", DEFAULT_ENABLED, StorageContainerConfig::isEnabled),
 				configEntry("containers/storage/compact", DEFAULT_COMPACT, StorageContainerConfig::isCompact),
-				configEntry("containers/storage/loot_table", DEFAULT_LOOT_TABLE, StorageContainerConfig::hasLootTable)
+				configEntry("containers/storage/loot_table", DEFAULT_LOOT_TABLE, StorageContainerConfig::hasLootTable),
+				configEntry(MAX_ROWS_CODEC, "containers/storage/max_rows", () -> DEFAULT_MAX_ROWS, StorageContainerConfig::getMaxRows)
 		).apply(instance, StorageContainerConfig::new));
 
 		private boolean enabled;
 		private boolean compact;
 		private boolean lootTable;
+		private int maxRows;
+		private boolean readOnly;
 
-		public StorageContainerConfig(boolean enabled, boolean compact, boolean lootTable) {
+		public StorageContainerConfig(boolean enabled, boolean compact, boolean lootTable, int maxRows) {
 			this.enabled = enabled;
 			this.compact = compact;
 			this.lootTable = lootTable;
+			this.setMaxRows(maxRows);
+		}
+
+		public StorageContainerConfig(boolean enabled, boolean compact, boolean lootTable) {
+			this(enabled, compact, lootTable, DEFAULT_MAX_ROWS);
 		}
 
 		public boolean isEnabled() {
@@ -290,6 +397,7 @@ public class InspecioConfig {
 		}
 
 		public void setEnabled(boolean enabled) {
+			this.checkWritable();
 			this.enabled = enabled;
 		}
 
@@ -298,6 +406,7 @@ public class InspecioConfig {
 		}
 
 		public void setCompact(boolean compact) {
+			this.checkWritable();
 			this.compact = compact;
 		}
 
@@ -306,11 +415,48 @@ public class InspecioConfig {
 		}
 
 		public void setLootTable(boolean lootTable) {
+			this.checkWritable();
 			this.lootTable = lootTable;
 		}
 
+		/**
+		 * {@return the maximum amount of rows displayed at once by the inventory tooltip, the other rows are reached by scrolling}
+		 */
+		public int getMaxRows() {
+			return this.maxRows;
+		}
+
+		public void setMaxRows(int maxRows) {
+			this.checkWritable();
+			this.maxRows = MathHelper.clamp(maxRows, 1, MAX_MAX_ROWS);
+		}
+
+		/**
+		 * {@return {@code true} if this configuration is a read-only copy, or {@code false} otherwise}
+		 */
+		public boolean isReadOnly() {
+			return this.readOnly;
+		}
+
+		protected void checkWritable() {
+			if (this.readOnly)
+				throw new UnsupportedOperationException("This container configuration is read-only.");
+		}
+
+		/**
+		 * {@return a read-only copy of this configuration, whose setters throw an {@link UnsupportedOperationException}}
+		 */
+		public StorageContainerConfig readOnlyCopy() {
+			return markReadOnly(new StorageContainerConfig(this.enabled, this.compact, this.lootTable, this.maxRows));
+		}
+
+		static <C extends StorageContainerConfig> C markReadOnly(C config) {
+			((StorageContainerConfig) config).readOnly = true;
+			return config;
+		}
+
 		public static StorageContainerConfig defaultConfig() {
-			return new StorageContainerConfig(DEFAULT_ENABLED, DEFAULT_COMPACT, DEFAULT_LOOT_TABLE);
+			return new StorageContainerConfig(DEFAULT_ENABLED, DEFAULT_COMPACT, DEFAULT_LOOT_TABLE, DEFAULT_MAX_ROWS);
 		}
 	}
 
@@ -321,26 +467,37 @@ public class InspecioConfig {
 				configEntry("containers/shulker_box/enabled", DEFAULT_ENABLED, StorageContainerConfig::isEnabled),
 				configEntry("containers/shulker_box/compact", DEFAULT_COMPACT, StorageContainerConfig::isCompact),
 				configEntry("containers/shulker_box/loot_table", DEFAULT_LOOT_TABLE, StorageContainerConfig::hasLootTable),
+				configEntry(MAX_ROWS_CODEC, "containers/shulker_box/max_rows", () -> DEFAULT_MAX_ROWS, StorageContainerConfig::getMaxRows),
 				configEntry("containers/shulker_box/color", DEFAULT_COLOR, ShulkerBoxConfig::hasColor)
 		).apply(instance, ShulkerBoxConfig::new));
 
 		private boolean color;
 
-		public ShulkerBoxConfig(boolean enabled, boolean compact, boolean lootTable, boolean color) {
-			super(enabled, compact, lootTable);
+		public ShulkerBoxConfig(boolean enabled, boolean compact, boolean lootTable, int maxRows, boolean color) {
+			super(enabled, compact, lootTable, maxRows);
 			this.color = color;
 		}
 
+		public ShulkerBoxConfig(boolean enabled, boolean compact, boolean lootTable, boolean color) {
+			this(enabled, compact, lootTable, DEFAULT_MAX_ROWS, color);
+		}
+
 		public boolean hasColor() {
 			return this.color;
 		}
 
 		public void setColor(boolean color) {
+			this.checkWritable();
 			this.color = color;
 		}
 
+		@Override
+		public ShulkerBoxConfig readOnlyCopy() {
+			return markReadOnly(new ShulkerBoxConfig(this.isEnabled(), this.isCompact(), this.hasLootTable(), this.getMaxRows(), this.color));
+		}
+
 		public static ShulkerBoxConfig defaultConfig() {
-			return new ShulkerBoxConfig(DEFAULT_ENABLED, DEFAULT_COMPACT, DEFAULT_LOOT_TABLE, DEFAULT_COLOR);
+			return new ShulkerBoxConfig(DEFAULT_ENABLED, DEFAULT_COMPACT, DEFAULT_LOOT_TABLE, DEFAULT_MAX_ROWS, DEFAULT_COLOR);
 		}
 	}
 
@@ -351,26 +508,37 @@ public class InspecioConfig {
 				configEntry("containers/chiseled_bookshelf/enabled", DEFAULT_ENABLED, StorageContainerConfig::isEnabled),
 				configEntry("containers/chiseled_bookshelf/compact", DEFAULT_COMPACT, StorageContainerConfig::isCompact),
 				configEntry("containers/chiseled_bookshelf/loot_table", DEFAULT_LOOT_TABLE, StorageContainerConfig::hasLootTable),
+				configEntry(MAX_ROWS_CODEC, "containers/chiseled_bookshelf/max_rows", () -> DEFAULT_MAX_ROWS, StorageContainerConfig::getMaxRows),
 				configEntry("containers/chiseled_bookshelf/block_render", DEFAULT_BLOCK_RENDER, ChiseledBookshelfConfig::hasBlockRender)
 		).apply(instance, ChiseledBookshelfConfig::new));
 
 		private boolean blockRender;
 
-		public ChiseledBookshelfConfig(boolean enabled, boolean compact, boolean lootTable, boolean blockRender) {
-			super(enabled, compact, lootTable);
+		public ChiseledBookshelfConfig(boolean enabled, boolean compact, boolean lootTable, int maxRows, boolean blockRender) {
+			super(enabled, compact, lootTable, maxRows);
 			this.blockRender = blockRender;
 		}
 
+		public ChiseledBookshelfConfig(boolean enabled, boolean compact, boolean lootTable, boolean blockRender) {
+			this(enabled, compact, lootTable, DEFAULT_MAX_ROWS, blockRender);
+		}
+
 		public boolean hasBlockRender() {
 			return this.blockRender;
 		}
 
 		public void setBlockRender(boolean blockRender) {
+			this.checkWritable();
 			this.blockRender = blockRender;
 		}
 
+		@Override
+		public ChiseledBookshelfConfig readOnlyCopy() {
+			return markReadOnly(new ChiseledBookshelfConfig(this.isEnabled(), this.isCompact(), this.hasLootTable(), this.getMaxRows(), this.blockRender));
+		}
+
 		public static ChiseledBookshelfConfig defaultConfig() {
-			return new ChiseledBookshelfConfig(DEFAULT_ENABLED, DEFAULT_COMPACT, DEFAULT_LOOT_TABLE, DEFAULT_BLOCK_RENDER);
+			return new ChiseledBookshelfConfig(DEFAULT_ENABLED, DEFAULT_COMPACT, DEFAULT_LOOT_TABLE, DEFAULT_MAX_ROWS, DEFAULT_BLOCK_RENDER);
 		}
 	}
 
@@ -481,11 +649,15 @@ public class InspecioConfig {
 	/**
 	 * Represents entities configuration.
 	 *
-	 * @version 1.6.0
+	 * @version 1.9.0
 	 * @since 1.0.0
 	 */
 	public static class EntitiesConfig {
 		public static final int DEFAULT_PUFF_STATE = 2;
+		public static final boolean DEFAULT_THUMBNAIL_ATLAS = false;
+		public static final int DEFAULT_THUMBNAIL_ATLAS_SIZE = 1024;
+		public static final int MIN_THUMBNAIL_ATLAS_SIZE = 256;
+		public static final int MAX_THUMBNAIL_ATLAS_SIZE = 4096;
 
 		public static final Codec<EntitiesConfig> CODEC = RecordCodecBuilder.create(instance -> instance.group(
 				configEntry(EntityConfig.CODEC, "entities/armor_stand", EntityConfig::defaultConfig, EntitiesConfig::getArmorStandConfig),
@@ -494,7 +666,10 @@ public class InspecioConfig {
 				configEntry(EntityConfig.CODEC, "entities/spawn_egg", EntityConfig::defaultConfig, EntitiesConfig::getSpawnEggConfig),
 				configEntry(EntityConfig.CODEC, "entities/mob_spawner", EntityConfig::defaultConfig, EntitiesConfig::getMobSpawnerConfig),
 				Codec.INT.fieldOf("pufferfish_puff_state").orElse(DEFAULT_PUFF_STATE)
-						.forGetter(EntitiesConfig::getPufferFishPuffState)
+						.forGetter(EntitiesConfig::getPufferFishPuffState),
+				configEntry("entities/thumbnail_atlas", DEFAULT_THUMBNAIL_ATLAS, EntitiesConfig::hasThumbnailAtlas),
+				configEntry(Codec.intRange(MIN_THUMBNAIL_ATLAS_SIZE, MAX_THUMBNAIL_ATLAS_SIZE), "entities/thumbnail_atlas_size",
+						() -> DEFAULT_THUMBNAIL_ATLAS_SIZE, EntitiesConfig::getThumbnailAtlasSize)
 		).apply(instance, EntitiesConfig::new));
 
 		private final EntityConfig armorStandConfig;
@@ -503,15 +678,25 @@ public class InspecioConfig {
 		private final EntityConfig spawnEggConfig;
 		private final EntityConfig mobSpawnerConfig;
 		private int pufferFishPuffState;
+		private boolean thumbnailAtlas;
+		private int thumbnailAtlasSize;
 
 		public EntitiesConfig(EntityConfig armorStandConfig, BeeEntityConfig beeConfig, EntityConfig fishBucketConfig, EntityConfig spawnEggConfig,
-				EntityConfig mobSpawnerConfig, int pufferFishPuffState) {
+				EntityConfig mobSpawnerConfig, int pufferFishPuffState, boolean thumbnailAtlas, int thumbnailAtlasSize) {
 			this.armorStandConfig = armorStandConfig;
 			this.beeConfig = beeConfig;
 			this.fishBucketConfig = fishBucketConfig;
 			this.spawnEggConfig = spawnEggConfig;
 			this.mobSpawnerConfig = mobSpawnerConfig;
 			this.setPufferFishPuffState(pufferFishPuffState);
+			this.thumbnailAtlas = thumbnailAtlas;
+			this.setThumbnailAtlasSize(thumbnailAtlasSize);
+		}
+
+		public EntitiesConfig(EntityConfig armorStandConfig, BeeEntityConfig beeConfig, EntityConfig fishBucketConfig, EntityConfig spawnEggConfig,
+				EntityConfig mobSpawnerConfig, int pufferFishPuffState) {
+			this(armorStandConfig, beeConfig, fishBucketConfig, spawnEggConfig, mobSpawnerConfig, pufferFishPuffState,
+					DEFAULT_THUMBNAIL_ATLAS, DEFAULT_THUMBNAIL_ATLAS_SIZE);
 		}
 
 		public EntityConfig getArmorStandConfig() {
@@ -542,16 +727,38 @@ public class InspecioConfig {
 			this.pufferFishPuffState = MathHelper.clamp(pufferFishPuffState, 0, 2);
 		}
 
+		/**
+		 * {@return {@code true} if non-spinning entities are rendered once into a thumbnail atlas and then drawn from it, or {@code false} otherwise}
+		 */
+		public boolean hasThumbnailAtlas() {
+			return this.thumbnailAtlas;
+		}
+
+		public void setThumbnailAtlas(boolean thumbnailAtlas) {
+			this.thumbnailAtlas = thumbnailAtlas;
+		}
+
+		/**
+		 * {@return the width and height in pixels of the entity thumbnail atlas}
+		 */
+		public int getThumbnailAtlasSize() {
+			return this.thumbnailAtlasSize;
+		}
+
+		public void setThumbnailAtlasSize(int thumbnailAtlasSize) {
+			this.thumbnailAtlasSize = MathHelper.clamp(thumbnailAtlasSize, MIN_THUMBNAIL_ATLAS_SIZE, MAX_THUMBNAIL_ATLAS_SIZE);
+		}
+
 		public static EntitiesConfig defaultConfig() {
 			return new EntitiesConfig(EntityConfig.defaultConfig(), BeeEntityConfig.defaultConfig(), EntityConfig.defaultConfig(), EntityConfig.defaultConfig(),
-					EntityConfig.defaultConfig(), DEFAULT_PUFF_STATE);
+					EntityConfig.defaultConfig(), DEFAULT_PUFF_STATE, DEFAULT_THUMBNAIL_ATLAS, DEFAULT_THUMBNAIL_ATLAS_SIZE);
 		}
 	}
 
 	/**
 	 * Represents entity configuration.
 	 *
-	 * @version 1.0.0
+	 * @version 1.9.0
 	 * @since 1.0.0
 	 */
 	public static class EntityConfig {
@@ -569,6 +776,7 @@ public class InspecioConfig {
 		private boolean enabled;
 		private boolean alwaysShowName;
 		private boolean spin;
+		private boolean readOnly;
 
 		public EntityConfig(boolean enabled, boolean alwaysShowName, boolean spin) {
 			this.enabled = enabled;
@@ -581,6 +789,7 @@ public class InspecioConfig {
 		}
 
 		public void setEnabled(boolean enabled) {
+			this.checkWritable();
 			this.enabled = enabled;
 		}
 
@@ -589,6 +798,7 @@ public class InspecioConfig {
 		}
 
 		public void setAlwaysShowName(boolean alwaysShowName) {
+			this.checkWritable();
 			this.alwaysShowName = alwaysShowName;
 		}
 
@@ -597,9 +807,34 @@ public class InspecioConfig {
 		}
 
 		public void setSpin(boolean spin) {
+			this.checkWritable();
 			this.spin = spin;
 		}
 
+		/**
+		 * {@return {@code true} if this configuration is a read-only copy, or {@code false} otherwise}
+		 */
+		public boolean isReadOnly() {
+			return this.readOnly;
+		}
+
+		protected void checkWritable() {
+			if (this.readOnly)
+				throw new UnsupportedOperationException("This entity configuration is read-only.");
+		}
+
+		/**
+		 * {@return a read-only copy of this configuration, whose setters throw an {@link UnsupportedOperationException}}
+		 */
+		public EntityConfig readOnlyCopy() {
+			return markReadOnly(new EntityConfig(this.enabled, this.alwaysShowName, this.spin));
+		}
+
+		static <C extends EntityConfig> C markReadOnly(C config) {
+			((EntityConfig) config).readOnly = true;
+			return config;
+		}
+
 		public static EntityConfig defaultConfig() {
 			return new EntityConfig(DEFAULT_ENABLED, DEFAULT_ALWAYS_SHOW_NAME, DEFAULT_SPIN);
 		}
@@ -608,7 +843,7 @@ public class InspecioConfig {
 	/**
 	 * Represents the configuration of tooltips relating to bee hives and bee nests.
 	 *
-	 * @version 1.6.0
+	 * @version 1.9.0
 	 * @since 1.6.0
 	 */
 	public static class BeeEntityConfig extends EntityConfig {
@@ -634,9 +869,15 @@ public class InspecioConfig {
 		}
 
 		public void setShowHoneyLevel(boolean showHoneyLevel) {
+			this.checkWritable();
 			this.showHoneyLevel = showHoneyLevel;
 		}
 
+		@Override
+		public BeeEntityConfig readOnlyCopy() {
+			return markReadOnly(new BeeEntityConfig(this.isEnabled(), this.shouldAlwaysShowName(), this.shouldSpin(), this.showHoneyLevel));
+		}
+
 		public static BeeEntityConfig defaultConfig() {
 			return new BeeEntityConfig(DEFAULT_ENABLED, DEFAULT_ALWAYS_SHOW_NAME, DEFAULT_SPIN, DEFAULT_SHOW_HONEY_LEVEL);
 		}
@@ -645,24 +886,33 @@ public class InspecioConfig {
 	/**
 	 * Represents filled map configuration.
 	 *
-	 * @version 1.0.1
+	 * @version 1.9.0
 	 * @since 1.0.1
 	 */
 	public static class FilledMapConfig {
 		public static final boolean DEFAULT_ENABLED = true;
 		public static final boolean DEFAULT_SHOW_PLAYER_ICON = false;
+		public static final int DEFAULT_CACHE_SIZE = 32;
+		public static final int MAX_CACHE_SIZE = 256;
 
 		public static final Codec<FilledMapConfig> CODEC = RecordCodecBuilder.create(instance -> instance.group(
 				configEntry("filled_map/enabled", DEFAULT_ENABLED, FilledMapConfig::isEnabled),
-				configEntry("filled_map/show_player_icon", DEFAULT_SHOW_PLAYER_ICON, FilledMapConfig::shouldShowPlayerIcon)
+				configEntry("filled_map/show_player_icon", DEFAULT_SHOW_PLAYER_ICON, FilledMapConfig::shouldShowPlayerIcon),
+				configEntry(Codec.intRange(1, MAX_CACHE_SIZE), "filled_map/cache_size", () -> DEFAULT_CACHE_SIZE, FilledMapConfig::getCacheSize)
 		).apply(instance, FilledMapConfig::new));
 
 		private boolean enabled;
 		private boolean showPlayerIcon;
+		private int cacheSize;
 
-		public FilledMapConfig(boolean enabled, boolean showPlayerIcon) {
+		public FilledMapConfig(boolean enabled, boolean showPlayerIcon, int cacheSize) {
 			this.enabled = enabled;
 			this.showPlayerIcon = showPlayerIcon;
+			this.setCacheSize(cacheSize);
+		}
+
+		public FilledMapConfig(boolean enabled, boolean showPlayerIcon) {
+			this(enabled, showPlayerIcon, DEFAULT_CACHE_SIZE);
 		}
 
 		public boolean isEnabled() {
@@ -681,8 +931,19 @@ public class InspecioConfig {
 			this.showPlayerIcon = showPlayerIcon;
 		}
 
+		/**
+		 * {@return the maximum amount of maps whose rendering is kept in cache}
+		 */
+		public int getCacheSize() {
+			return this.cacheSize;
+		}
+
+		public void setCacheSize(int cacheSize) {
+			this.cacheSize = MathHelper.clamp(cacheSize, 1, MAX_CACHE_SIZE);
+		}
+
 		public static FilledMapConfig defaultConfig() {
-			return new FilledMapConfig(DEFAULT_ENABLED, DEFAULT_SHOW_PLAYER_ICON);
+			return new FilledMapConfig(DEFAULT_ENABLED, DEFAULT_SHOW_PLAYER_ICON, DEFAULT_CACHE_SIZE);
 		}
 	}
 
@@ -808,7 +1069,7 @@ public class InspecioConfig {
 		return config;
 	}
 
-	public static InspecioConfig load() {
+	public static synchronized InspecioConfig load() {
 		Inspecio.log("Loading configuration...");
 
 		if (!Files.exists(CONFIG_PATH)) {
@@ -840,6 +1101,30 @@ public class InspecioConfig {
 		}
 	}
 
+	/**
+	 * Reads the configuration file without any side effect, unlike {@link #load()} the file is neither backed up nor rewritten.
+	 * <p>
+	 * The read is strict: any invalid or missing entry makes the whole configuration invalid.
+	 *
+	 * @return the result of the read, which holds the configuration if the file is valid, or the error otherwise
+	 */
+	public static synchronized DataResult<InspecioConfig> read() {
+		try (var reader = Files.newBufferedReader(CONFIG_PATH)) {
+			shouldSaveConfigAfterLoad = false;
+			var result = CODEC.parse(JsonOps.INSTANCE, JsonParser.parseReader(reader));
+
+			if (shouldSaveConfigAfterLoad) {
+				// Entries which failed to decode have been replaced by their default values.
+				shouldSaveConfigAfterLoad = false;
+				return DataResult.error(() -> "Configuration has invalid or missing entries.");
+			}
+
+			return result;
+		} catch (IOException | JsonParseException e) {
+			return DataResult.error(e::getMessage);
+		}
+	}
+
 	/**
 	 * Returns the default Inspecio configuration.
 	 *
@@ -855,7 +1140,9 @@ public class InspecioConfig {
 				FoodConfig.defaultConfig(),
 				DEFAULT_JUKEBOX_TOOLTIP_MODE,
 				DEFAULT_SIGN_TOOLTIP_MODE,
-				AdvancedTooltipsConfig.defaultConfig()
+				AdvancedTooltipsConfig.defaultConfig(),
+				DEFAULT_ASYNC_PREPARATION,
+				DEFAULT_HOT_RELOAD
 		);
 	}
 }
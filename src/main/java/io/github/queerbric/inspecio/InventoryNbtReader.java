@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.collection.DefaultedList;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Reads inventories stored in the {@code Items} list of a block entity NBT, the same way {@link net.minecraft.inventory.Inventories#readNbt(NbtCompound, DefaultedList)} does.
+ * <p>
+ * The reader works directly on the slot compounds, questions like "is the inventory empty?" or "how many distinct stacks are there?"
+ * are answered without creating any item stack, and item stacks are only decoded for the slots which will be displayed.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+public final class InventoryNbtReader {
+	private static final String ITEMS_KEY = "Items";
+
+	private InventoryNbtReader() {
+		throw new UnsupportedOperationException("InventoryNbtReader only contains static definitions.");
+	}
+
+	/**
+	 * Returns whether the inventory stored in the given NBT is empty, stops at the first non-empty slot.
+	 *
+	 * @param nbt the NBT to read
+	 * @param size the size of the inventory
+	 * @return {@code true} if the inventory is empty, or {@code false} otherwise
+	 */
+	public static boolean isEmpty(NbtCompound nbt, int size) {
+		var items = getItems(nbt);
+
+		for (int i = 0; i < items.size(); i++) {
+			var slot = items.getCompound(i);
+
+			if (isInRange(slot, size) && getItem(slot) != null)
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Counts the distinct stacks of the inventory stored in the given NBT, stacks are distinct if they cannot be combined.
+	 *
+	 * @param nbt the NBT to read
+	 * @param size the size of the inventory
+	 * @return the amount of distinct stacks
+	 */
+	public static int countDistinct(NbtCompound nbt, int size) {
+		var items = getItems(nbt);
+		var distinct = new HashSet<StackKey>();
+
+		for (int i = 0; i < items.size(); i++) {
+			var slot = items.getCompound(i);
+			if (!isInRange(slot, size))
+				continue;
+
+			var item = getItem(slot);
+			if (item != null)
+				distinct.add(StackKey.of(item, slot));
+		}
+
+		return distinct.size();
+	}
+
+	/**
+	 * Reads the inventory stored in the given NBT, only the non-empty slots which are in range are decoded.
+	 *
+	 * @param nbt the NBT to read
+	 * @param size the size of the inventory
+	 * @return {@code null} if the inventory is empty, or the inventory otherwise
+	 */
+	public static @Nullable DefaultedList<ItemStack> read(NbtCompound nbt, int size) {
+		var items = getItems(nbt);
+		DefaultedList<ItemStack> inventory = null;
+
+		for (int i = 0; i < items.size(); i++) {
+			var slot = items.getCompound(i);
+			if (!isInRange(slot, size) || getItem(slot) == null)
+				continue;
+
+			var stack = ItemStack.fromNbt(slot);
+			if (stack.isEmpty())
+				continue;
+
+			if (inventory == null)
+				inventory = DefaultedList.ofSize(size, ItemStack.EMPTY);
+
+			inventory.set(getSlot(slot), stack);
+		}
+
+		return inventory;
+	}
+
+	/**
+	 * Reads the inventory stored in the given NBT in its compacted form.
+	 * <p>
+	 * Slots are grouped by item and NBT before decoding, and only one item stack is decoded per distinct stack,
+	 * with its count set to the total count of the group.
+	 *
+	 * @param nbt the NBT to read
+	 * @param size the size of the inventory
+	 * @return {@code null} if the inventory is empty, or the compacted stacks in order of first appearance otherwise
+	 * @see #isCompacted(List)
+	 */
+	public static @Nullable List<ItemStack> readCompacted(NbtCompound nbt, int size) {
+		var items = getItems(nbt);
+		var groups = new LinkedHashMap<StackKey, Group>();
+
+		for (int i = 0; i < items.size(); i++) {
+			var slot = items.getCompound(i);
+			if (!isInRange(slot, size))
+				continue;
+
+			var item = getItem(slot);
+			if (item == null)
+				continue;
+
+			var group = groups.computeIfAbsent(StackKey.of(item, slot), key -> new Group(slot));
+			group.count += slot.getByte("Count");
+		}
+
+		var inventory = new CompactedInventory(groups.size());
+
+		for (var group : groups.values()) {
+			var stack = ItemStack.fromNbt(group.first);
+			if (stack.isEmpty())
+				continue;
+
+			stack.setCount(group.count);
+			inventory.add(stack);
+		}
+
+		return inventory.isEmpty() ? null : inventory;
+	}
+
+	/**
+	 * {@return {@code true} if the given inventory was read by {@link #readCompacted(NbtCompound, int)} and does not need to be compacted again,
+	 * or {@code false} otherwise}
+	 *
+	 * @param inventory the inventory
+	 */
+	public static boolean isCompacted(List<ItemStack> inventory) {
+		return inventory instanceof CompactedInventory;
+	}
+
+	private static NbtList getItems(NbtCompound nbt) {
+		return nbt.getList(ITEMS_KEY, NbtElement.COMPOUND_TYPE);
+	}
+
+	private static int getSlot(NbtCompound slot) {
+		return slot.getByte("Slot") & 255;
+	}
+
+	private static boolean isInRange(NbtCompound slot, int size) {
+		return getSlot(slot) < size;
+	}
+
+	/**
+	 * Gets the item stored in the given slot compound without decoding the item stack.
+	 *
+	 * @param slot the slot compound
+	 * @return the item if the slot holds a non-empty stack, or {@code null} otherwise
+	 */
+	private static @Nullable Item getItem(NbtCompound slot) {
+		if (slot.getByte("Count") <= 0)
+			return null;
+
+		var id = Identifier.tryParse(slot.getString("id"));
+		if (id == null)
+			return null;
+
+		var item = Registries.ITEM.get(id);
+		return item == Items.AIR ? null : item;
+	}
+
+	private record StackKey(Item item, @Nullable NbtCompound nbt) {
+		static StackKey of(Item item, NbtCompound slot) {
+			return new StackKey(item, slot.contains("tag", NbtElement.COMPOUND_TYPE) ? slot.getCompound("tag") : null);
+		}
+	}
+
+	private static final class CompactedInventory extends ArrayList<ItemStack> {
+		private CompactedInventory(int initialCapacity) {
+			super(initialCapacity);
+		}
+	}
+
+	private static final class Group {
+		private final NbtCompound first;
+		private int count;
+
+		private Group(NbtCompound first) {
+			this.first = first;
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Represents a bounded least-recently-used cache which keeps track of its hits, misses and evictions.
+ * <p>
+ * Every cache is named and registered globally so its statistics can be displayed through the {@code /inspecio cache} command.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+public final class LruCache<K, V> {
+	private static final List<LruCache<?, ?>> CACHES = new CopyOnWriteArrayList<>();
+
+	private final String name;
+	private final BiConsumer<K, V> removalListener;
+	private final Map<K, V> entries;
+	private int maxSize;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	private LruCache(String name, int maxSize, BiConsumer<K, V> removalListener) {
+		this.name = name;
+		this.maxSize = maxSize;
+		this.removalListener = removalListener;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				if (this.size() > LruCache.this.maxSize) {
+					LruCache.this.evictions++;
+					LruCache.this.removalListener.accept(eldest.getKey(), eldest.getValue());
+					return true;
+				}
+
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Creates and registers a new cache.
+	 *
+	 * @param name the name of the cache, used in statistics
+	 * @param maxSize the maximum amount of entries the cache can hold before evicting the least recently used one
+	 * @param <K> the type of the keys
+	 * @param <V> the type of the cached values
+	 * @return the new cache
+	 */
+	public static <K, V> LruCache<K, V> create(String name, int maxSize) {
+		return create(name, maxSize, (key, value) -> {});
+	}
+
+	/**
+	 * Creates and registers a new cache whose values hold resources which must be released once they leave the cache.
+	 *
+	 * @param name the name of the cache, used in statistics
+	 * @param maxSize the maximum amount of entries the cache can hold before evicting the least recently used one
+	 * @param removalListener the listener called for every entry which is evicted or cleared from the cache
+	 * @param <K> the type of the keys
+	 * @param <V> the type of the cached values
+	 * @return the new cache
+	 */
+	public static <K, V> LruCache<K, V> create(String name, int maxSize, BiConsumer<K, V> removalListener) {
+		var cache = new LruCache<>(name, maxSize, removalListener);
+		CACHES.add(cache);
+		return cache;
+	}
+
+	/**
+	 * {@return all the registered caches}
+	 */
+	public static List<LruCache<?, ?>> getCaches() {
+		return Collections.unmodifiableList(CACHES);
+	}
+
+	/**
+	 * Clears every registered cache.
+	 */
+	public static void clearAll() {
+		for (var cache : CACHES) {
+			cache.clear();
+		}
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Gets the value associated to the given key, and marks it as the most recently used.
+	 *
+	 * @param key the key
+	 * @return the cached value if present, or {@code null} otherwise
+	 */
+	public synchronized @Nullable V get(K key) {
+		var value = this.entries.get(key);
+
+		if (value == null) this.misses++;
+		else this.hits++;
+
+		return value;
+	}
+
+	/**
+	 * Gets the value associated to the given key, or computes and caches it if absent.
+	 *
+	 * @param key the key
+	 * @param factory the factory of the value, may not return {@code null}
+	 * @return the cached value
+	 */
+	public synchronized V computeIfAbsent(K key, Function<K, V> factory) {
+		var value = this.get(key);
+
+		if (value == null) {
+			value = factory.apply(key);
+			this.entries.put(key, value);
+		}
+
+		return value;
+	}
+
+	public synchronized void put(K key, V value) {
+		var old = this.entries.put(key, value);
+
+		if (old != null && old != value)
+			this.removalListener.accept(key, old);
+	}
+
+	/**
+	 * Removes the value associated to the given key.
+	 *
+	 * @param key the key
+	 */
+	public synchronized void remove(K key) {
+		var value = this.entries.remove(key);
+
+		if (value != null)
+			this.removalListener.accept(key, value);
+	}
+
+	public synchronized void clear() {
+		this.entries.forEach(this.removalListener);
+		this.entries.clear();
+	}
+
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	public synchronized int getMaxSize() {
+		return this.maxSize;
+	}
+
+	/**
+	 * Sets the maximum amount of entries this cache can hold, the least recently used entries are evicted if needed.
+	 *
+	 * @param maxSize the maximum amount of entries
+	 */
+	public synchronized void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+
+		var iterator = this.entries.entrySet().iterator();
+		while (this.entries.size() > maxSize && iterator.hasNext()) {
+			var eldest = iterator.next();
+			iterator.remove();
+			this.evictions++;
+			this.removalListener.accept(eldest.getKey(), eldest.getValue());
+		}
+	}
+
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	public synchronized long getEvictions() {
+		return this.evictions;
+	}
+
+	/**
+	 * Resets the statistics of this cache, the entries are kept.
+	 */
+	public synchronized void resetStatistics() {
+		this.hits = 0;
+		this.misses = 0;
+		this.evictions = 0;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio;
+
+import net.minecraft.nbt.NbtElement;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Represents a cache key part matching NBT by content, with its structural hash computed once.
+ * <p>
+ * Fingerprints are usually created from the live NBT of an item stack to look up a cache, as copying the NBT on every lookup is expensive.
+ * As the live NBT may be modified later, the fingerprint must be {@linkplain #detach() detached} before being inserted into a cache.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ * @see LruCache
+ */
+public final class NbtFingerprint {
+	public static final NbtFingerprint EMPTY = new NbtFingerprint(null, 0, true);
+
+	private final @Nullable NbtElement nbt;
+	private final int hash;
+	private final boolean detached;
+
+	private NbtFingerprint(@Nullable NbtElement nbt, int hash, boolean detached) {
+		this.nbt = nbt;
+		this.hash = hash;
+		this.detached = detached;
+	}
+
+	/**
+	 * Creates the fingerprint of the given NBT, which is referenced as is.
+	 *
+	 * @param nbt the NBT, may be {@code null}
+	 * @return the fingerprint
+	 */
+	public static NbtFingerprint of(@Nullable NbtElement nbt) {
+		return nbt == null ? EMPTY : new NbtFingerprint(nbt, nbt.hashCode(), false);
+	}
+
+	/**
+	 * {@return a fingerprint which owns a copy of the NBT, to be inserted into a cache}
+	 * <p>
+	 * The hash is not computed again, and an already detached fingerprint is returned as is.
+	 */
+	public NbtFingerprint detach() {
+		if (this.detached)
+			return this;
+
+		return new NbtFingerprint(this.nbt.copy(), this.hash, true);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof NbtFingerprint that)) return false;
+		return this.hash == that.hash && Objects.equals(this.nbt, that.nbt);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hash;
+	}
+}
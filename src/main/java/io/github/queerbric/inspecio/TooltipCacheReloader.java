@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio;
+
+import io.github.queerbric.inspecio.tooltip.BannerTooltipComponent;
+import io.github.queerbric.inspecio.tooltip.ChiseledBookshelfTooltipComponent;
+import io.github.queerbric.inspecio.tooltip.EntityThumbnailAtlas;
+import io.github.queerbric.inspecio.tooltip.MapTooltipComponent;
+import io.github.queerbric.inspecio.tooltip.SignTooltipComponent;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.NotNull;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+import org.quiltmc.qsl.resource.loader.api.reloader.SimpleSynchronousResourceReloader;
+
+/**
+ * Clears the tooltip caches which depend on client resources, such as the language or the fonts, when resources are reloaded.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+final class TooltipCacheReloader implements SimpleSynchronousResourceReloader {
+	static final Identifier ID = new Identifier(Inspecio.NAMESPACE, "tooltip_caches");
+
+	@Override
+	public @NotNull Identifier getQuiltId() {
+		return ID;
+	}
+
+	@Override
+	public void reload(ResourceManager manager) {
+		SignTooltipComponent.clearCache();
+		BannerTooltipComponent.clearCache();
+		ChiseledBookshelfTooltipComponent.clearCache();
+		// Thumbnails are baked with the entity textures and models of the previous resources.
+		EntityThumbnailAtlas.clear();
+		// Recorded map meshes keep the render layers of the previous font glyphs.
+		MapTooltipComponent.clearCache();
+		TooltipDataCache.onConfigChanged();
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import io.github.queerbric.inspecio.api.InspectionContext;
+import io.github.queerbric.inspecio.tooltip.LoadingTooltipComponent;
+import net.minecraft.client.item.TooltipData;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Caches the tooltip data built for item stacks, as the tooltip data is requested every frame while an item is hovered.
+ * <p>
+ * The cache is keyed by the item and the content of its NBT, the configuration and world generations are folded into the key
+ * so that any configuration change or world change invalidates previously built tooltip data.
+ * <p>
+ * Only tooltip data produced by Inspecio is cached, as the tooltip data of vanilla items and other mods
+ * may depend on state which is not part of the NBT.
+ * <p>
+ * The tooltip data of items is cached by the item mixins themselves, below the {@code ItemStack#getTooltipData} injections of other mods.
+ * The tooltip data composed on return of {@code ItemStack#getTooltipData} is cached separately,
+ * and is only reused if the item returned the very same cached tooltip data.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public final class TooltipDataCache {
+	private static final LruCache<Key, Optional<TooltipData>> CACHE = LruCache.create("tooltip_data", 256);
+	private static final LruCache<Key, Composed> COMPOSED = LruCache.create("composed_tooltip_data", 256);
+	private static final String TOOLTIP_PACKAGE = LoadingTooltipComponent.class.getPackageName();
+	private static int configGeneration = 0;
+	private static int worldGeneration = 0;
+
+	private TooltipDataCache() {
+		throw new UnsupportedOperationException("TooltipDataCache only contains static definitions.");
+	}
+
+	/**
+	 * Creates the cache key of the given item stack.
+	 * <p>
+	 * The cache is only used from the render thread, other threads will always get a {@code null} key.
+	 *
+	 * @param stack the item stack
+	 * @return the key if the tooltip data of the given stack can be cached, or {@code null} otherwise
+	 */
+	public static @Nullable Key keyOf(ItemStack stack) {
+		if (stack.isEmpty() || !RenderSystem.isOnRenderThread())
+			return null;
+
+		return new Key(stack.getItem(), NbtFingerprint.of(stack.getNbt()), configGeneration, worldGeneration);
+	}
+
+	/**
+	 * Checks whether the given tooltip data, as returned by the item itself, allows the tooltip data of its stack to be cached.
+	 * <p>
+	 * Only tooltip data created by Inspecio is known to only depend on the item and its NBT,
+	 * and placeholders must be replaced by the actual tooltip data on a later frame.
+	 *
+	 * @param data the tooltip data of the item, or {@code null} if the item has none
+	 * @return {@code true} if the tooltip data of the stack can be cached, or {@code false} otherwise
+	 */
+	public static boolean isCacheable(@Nullable TooltipData data) {
+		return data == null || data != LoadingTooltipComponent.INSTANCE && data.getClass().getPackageName().equals(TOOLTIP_PACKAGE);
+	}
+
+	/**
+	 * Gets the cached tooltip data of the given item stack, or builds and caches it.
+	 * <p>
+	 * This is meant to wrap the tooltip data built by items, the cache key is the one of the current inspection of the stack.
+	 *
+	 * @param stack the item stack
+	 * @param builder the builder of the tooltip data
+	 * @return the tooltip data
+	 */
+	public static Optional<TooltipData> getOrBuild(ItemStack stack, Supplier<Optional<TooltipData>> builder) {
+		var key = InspectionContext.of(stack).getCacheKey();
+		var data = key == null ? null : CACHE.get(key);
+
+		if (data == null) {
+			TooltipStats.beginBuild();
+			data = builder.get();
+			TooltipStats.endBuild(data);
+
+			if (key != null && isCacheable(data.orElse(null)))
+				CACHE.put(key.detach(), data);
+		}
+
+		return data;
+	}
+
+	/**
+	 * Gets the cached composed tooltip data of a stack.
+	 *
+	 * @param key the cache key of the stack
+	 * @param base the tooltip data returned by the item
+	 * @return the composed tooltip data if it was composed from the given tooltip data, or {@code null} otherwise
+	 */
+	public static @Nullable Optional<TooltipData> getComposed(Key key, Optional<TooltipData> base) {
+		var composed = COMPOSED.get(key);
+		return composed != null && composed.base() == base ? composed.data() : null;
+	}
+
+	/**
+	 * Caches the composed tooltip data of a stack.
+	 *
+	 * @param key the cache key of the stack
+	 * @param base the tooltip data returned by the item
+	 * @param data the composed tooltip data
+	 */
+	public static void putComposed(Key key, Optional<TooltipData> base, Optional<TooltipData> data) {
+		COMPOSED.put(key.detach(), new Composed(base, data));
+	}
+
+	/**
+	 * Invalidates the cached tooltip data after a configuration change.
+	 */
+	public static void onConfigChanged() {
+		configGeneration++;
+		CACHE.clear();
+		COMPOSED.clear();
+		AsyncTooltipLoader.clear();
+	}
+
+	/**
+	 * Invalidates the cached tooltip data after a world change.
+	 */
+	public static void onWorldChanged() {
+		worldGeneration++;
+		CACHE.clear();
+		COMPOSED.clear();
+		AsyncTooltipLoader.clear();
+	}
+
+	private record Composed(Optional<TooltipData> base, Optional<TooltipData> data) {
+	}
+
+	/**
+	 * Represents the key of a cached tooltip data.
+	 *
+	 * @param item the item
+	 * @param nbt the fingerprint of the NBT of the item stack
+	 * @param configGeneration the configuration generation
+	 * @param worldGeneration the world generation
+	 */
+	public record Key(Item item, NbtFingerprint nbt, int configGeneration, int worldGeneration) {
+		Key detach() {
+			return new Key(this.item, this.nbt.detach(), this.configGeneration, this.worldGeneration);
+		}
+	}
+}
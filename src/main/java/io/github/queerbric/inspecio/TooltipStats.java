@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.tooltip.TooltipComponent;
+import net.minecraft.client.item.TooltipData;
+import net.minecraft.client.render.VertexConsumerProvider;
+import org.joml.Matrix4f;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects timing statistics of tooltip data building and tooltip component drawing, displayed through the {@code /inspecio stats} command.
+ * <p>
+ * Statistics are disabled by default, in which case measuring only costs a boolean check.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public final class TooltipStats {
+	private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+	private static final long[] BUILD_STARTS = new long[16];
+	private static int buildDepth = 0;
+	private static volatile boolean enabled = false;
+
+	private TooltipStats() {
+		throw new UnsupportedOperationException("TooltipStats only contains static definitions.");
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static void setEnabled(boolean enabled) {
+		TooltipStats.enabled = enabled;
+		buildDepth = 0;
+	}
+
+	/**
+	 * Marks the start of a tooltip data build on the render thread.
+	 */
+	public static void beginBuild() {
+		if (!enabled || !RenderSystem.isOnRenderThread())
+			return;
+
+		if (buildDepth < BUILD_STARTS.length)
+			BUILD_STARTS[buildDepth] = System.nanoTime();
+		buildDepth++;
+	}
+
+	/**
+	 * Marks the end of a tooltip data build on the render thread, the time is attributed to the type of the built tooltip data.
+	 *
+	 * @param data the built tooltip data
+	 */
+	public static void endBuild(Optional<TooltipData> data) {
+		if (!enabled || buildDepth == 0 || !RenderSystem.isOnRenderThread())
+			return;
+
+		buildDepth--;
+		if (buildDepth < BUILD_STARTS.length && data.isPresent()) {
+			record("build/" + data.get().getClass().getSimpleName(), System.nanoTime() - BUILD_STARTS[buildDepth]);
+		}
+	}
+
+	/**
+	 * Wraps the given tooltip component to measure its drawing if statistics are enabled.
+	 *
+	 * @param component the tooltip component
+	 * @return the wrapped tooltip component if statistics are enabled, or the given tooltip component otherwise
+	 */
+	public static TooltipComponent wrap(TooltipComponent component) {
+		if (!enabled)
+			return component;
+
+		var name = component.getClass().getSimpleName();
+		return new TimedTooltipComponent(component, "draw_text/" + name, "draw_items/" + name);
+	}
+
+	/**
+	 * Records a measured duration.
+	 *
+	 * @param name the name of the measured operation
+	 * @param nanos the duration in nanoseconds
+	 */
+	public static void record(String name, long nanos) {
+		HISTOGRAMS.computeIfAbsent(name, n -> new Histogram()).record(nanos);
+	}
+
+	/**
+	 * {@return a snapshot of the histograms sorted by name}
+	 */
+	public static Map<String, Histogram> getHistograms() {
+		return new TreeMap<>(HISTOGRAMS);
+	}
+
+	/**
+	 * Resets all the collected statistics.
+	 */
+	public static void reset() {
+		HISTOGRAMS.clear();
+	}
+
+	/**
+	 * Represents a fixed-bucket latency histogram.
+	 */
+	public static final class Histogram {
+		/**
+		 * The upper bounds of the buckets in microseconds, the last bucket is unbounded.
+		 */
+		private static final long[] BUCKET_BOUNDS = {
+				1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000, 20_000, 50_000
+		};
+
+		private final long[] buckets = new long[BUCKET_BOUNDS.length + 1];
+		private long count;
+		private long maxNanos;
+
+		private synchronized void record(long nanos) {
+			long micros = nanos / 1_000;
+			int bucket = 0;
+
+			while (bucket < BUCKET_BOUNDS.length && micros >= BUCKET_BOUNDS[bucket]) {
+				bucket++;
+			}
+
+			this.buckets[bucket]++;
+			this.count++;
+			this.maxNanos = Math.max(this.maxNanos, nanos);
+		}
+
+		public synchronized long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * {@return the maximum recorded duration in microseconds}
+		 */
+		public synchronized double getMax() {
+			return this.maxNanos / 1_000.0;
+		}
+
+		/**
+		 * Returns the upper bound of the bucket holding the given percentile, or the maximum if it is in the unbounded bucket.
+		 *
+		 * @param percentile the percentile, between 0 and 1
+		 * @return the duration in microseconds
+		 */
+		public synchronized double getPercentile(double percentile) {
+			long target = (long) Math.ceil(this.count * percentile);
+			long seen = 0;
+
+			for (int bucket = 0; bucket < BUCKET_BOUNDS.length; bucket++) {
+				seen += this.buckets[bucket];
+
+				if (seen >= target)
+					return Math.min(BUCKET_BOUNDS[bucket], this.getMax());
+			}
+
+			return this.getMax();
+		}
+	}
+
+	private record TimedTooltipComponent(TooltipComponent component, String drawTextName, String drawItemsName) implements TooltipComponent {
+		@Override
+		public int getHeight() {
+			return this.component.getHeight();
+		}
+
+		@Override
+		public int getWidth(TextRenderer textRenderer) {
+			return this.component.getWidth(textRenderer);
+		}
+
+		@Override
+		public void drawText(TextRenderer textRenderer, int x, int y, Matrix4f matrix, VertexConsumerProvider.Immediate vertexConsumers) {
+			long start = System.nanoTime();
+			this.component.drawText(textRenderer, x, y, matrix, vertexConsumers);
+			record(this.drawTextName, System.nanoTime() - start);
+		}
+
+		@Override
+		public void drawItems(TextRenderer textRenderer, int x, int y, GuiGraphics graphics) {
+			long start = System.nanoTime();
+			this.component.drawItems(textRenderer, x, y, graphics);
+			record(this.drawItemsName, System.nanoTime() - start);
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.api;
+
+import io.github.queerbric.inspecio.ConfigSnapshot;
+import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.InspecioConfig;
+import io.github.queerbric.inspecio.InventoryNbtReader;
+import io.github.queerbric.inspecio.TooltipDataCache;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.collection.DefaultedList;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+/**
+ * Represents the inspection context of an item stack, shared by every Inspecio code path which builds the tooltip of the stack.
+ * <p>
+ * The data read from the stack, such as its block entity NBT or its inventory, is only read on first request and then kept
+ * for the duration of the tooltip request.
+ * A context is confined to the thread which created it, and each thread holds at most one current context.
+ * The tooltip text and the tooltip data of a stack are two separate requests, each ending with its own context
+ * so the current context never outlives the request of its stack.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public final class InspectionContext {
+	private static final ThreadLocal<InspectionContext> CURRENT = new ThreadLocal<>();
+
+	private final ItemStack stack;
+	private final @Nullable NbtCompound nbt;
+	private final ConfigSnapshot config;
+	private boolean blockEntityNbtRead;
+	private @Nullable NbtCompound blockEntityNbt;
+	private boolean blockStateNbtRead;
+	private @Nullable NbtCompound blockStateNbt;
+	private boolean containerConfigRead;
+	private @Nullable InspecioConfig.StorageContainerConfig containerConfig;
+	private boolean cacheKeyRead;
+	private @Nullable TooltipDataCache.Key cacheKey;
+	private int inventorySize = -1;
+	private @Nullable DefaultedList<ItemStack> inventory;
+
+	private InspectionContext(ItemStack stack) {
+		this.stack = stack;
+		this.nbt = stack.getNbt();
+		this.config = Inspecio.getSnapshot();
+	}
+
+	/**
+	 * Gets the inspection context of the given item stack.
+	 * <p>
+	 * The current context of this thread is reused if it inspects the same stack,
+	 * otherwise a new context is returned which is not kept past the call.
+	 *
+	 * @param stack the item stack
+	 * @return the inspection context
+	 */
+	public static InspectionContext of(ItemStack stack) {
+		var context = CURRENT.get();
+
+		if (context == null || context.stack != stack) {
+			// Only the stack of the current request is kept, so a context cannot outlive its stack outside of a request.
+			return new InspectionContext(stack);
+		}
+
+		// The stack may have been given new NBT since the context was created.
+		if (context.nbt != stack.getNbt()) {
+			context = new InspectionContext(stack);
+			CURRENT.set(context);
+		}
+
+		return context;
+	}
+
+	/**
+	 * Begins a new tooltip request for the given item stack, the previous context is discarded even if it inspects the same stack.
+	 * <p>
+	 * Every call must be paired with a call to {@link #end()} once the request is done.
+	 *
+	 * @param stack the item stack
+	 * @return the new inspection context
+	 */
+	@ApiStatus.Internal
+	public static InspectionContext begin(ItemStack stack) {
+		var context = new InspectionContext(stack);
+		CURRENT.set(context);
+		return context;
+	}
+
+	/**
+	 * Ends the current tooltip request of this thread.
+	 */
+	@ApiStatus.Internal
+	public static void end() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * {@return the inspected item stack}
+	 */
+	public ItemStack getStack() {
+		return this.stack;
+	}
+
+	/**
+	 * {@return the configuration snapshot at the time this context was created}
+	 */
+	public ConfigSnapshot getConfig() {
+		return this.config;
+	}
+
+	/**
+	 * {@return the block entity NBT of the inspected stack, or {@code null} if it has none}
+	 */
+	public @Nullable NbtCompound getBlockEntityNbt() {
+		if (!this.blockEntityNbtRead) {
+			this.blockEntityNbt = BlockItem.getBlockEntityNbtFromStack(this.stack);
+			this.blockEntityNbtRead = true;
+		}
+
+		return this.blockEntityNbt;
+	}
+
+	/**
+	 * {@return the block state NBT of the inspected stack, or {@code null} if it has none}
+	 */
+	public @Nullable NbtCompound getBlockStateNbt() {
+		if (!this.blockStateNbtRead) {
+			this.blockStateNbt = this.stack.getSubNbt(BlockItem.BLOCK_STATE_TAG_KEY);
+			this.blockStateNbtRead = true;
+		}
+
+		return this.blockStateNbt;
+	}
+
+	/**
+	 * {@return the key of the inspected stack in the tooltip data cache, which is only computed once per context}
+	 */
+	@ApiStatus.Internal
+	public @Nullable TooltipDataCache.Key getCacheKey() {
+		if (!this.cacheKeyRead) {
+			this.cacheKey = TooltipDataCache.keyOf(this.stack);
+			this.cacheKeyRead = true;
+		}
+
+		return this.cacheKey;
+	}
+
+	/**
+	 * {@return the configuration of the container of the inspected stack, or {@code null} if the stack is not a known container}
+	 */
+	public @Nullable InspecioConfig.StorageContainerConfig getContainerConfig() {
+		if (!this.containerConfigRead) {
+			if (this.stack.getItem() instanceof BlockItem blockItem)
+				this.containerConfig = this.config.getContainerConfig(blockItem.getBlock());
+			this.containerConfigRead = true;
+		}
+
+		return this.containerConfig;
+	}
+
+	/**
+	 * Gets the inventory stored in the block entity NBT of the inspected stack.
+	 *
+	 * @param size the size of the inventory
+	 * @return {@code null} if the stack has no block entity NBT or if the inventory is empty, or the shared inventory which must not be modified otherwise
+	 * @see InventoryNbtReader#read(NbtCompound, int)
+	 */
+	public @Nullable DefaultedList<ItemStack> getInventory(int size) {
+		if (this.inventorySize != size) {
+			var nbt = this.getBlockEntityNbt();
+			this.inventory = nbt == null ? null : InventoryNbtReader.read(nbt, size);
+			this.inventorySize = size;
+		}
+
+		return this.inventory;
+	}
+}
@@ -20,17 +20,21 @@ package io.github.queerbric.inspecio.api;
 import io.github.queerbric.inspecio.InspecioConfig;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.registry.tag.TagKey;
 import net.minecraft.util.DyeColor;
 import org.jetbrains.annotations.Nullable;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Provides an inventory context for the given item stack.
+ * <p>
+ * Providers which can cheaply tell the size of the inventory they would provide should implement {@link LazyInventoryProvider} instead.
  *
  * @author LambdAurora
- * @version 1.2.0
+ * @version 1.9.0
  * @since 1.2.0
  */
 @ClientOnly
@@ -44,8 +48,25 @@ public interface InventoryProvider {
 	 */
 	@Nullable InventoryProvider.Context getInventoryContext(ItemStack stack, @Nullable InspecioConfig.StorageContainerConfig config);
 
+	/**
+	 * Returns the inventory context of the inspected item stack.
+	 * <p>
+	 * Providers should override this method to reuse the data already read from the stack by the inspection context.
+	 *
+	 * @param context the inspection context of the item stack
+	 * @param config the configuration of the container, if any
+	 * @return {@code null} if no inventory context could be created, otherwise an inventory context
+	 */
+	default @Nullable InventoryProvider.Context getInventoryContext(InspectionContext context, @Nullable InspecioConfig.StorageContainerConfig config) {
+		return this.getInventoryContext(context.getStack(), config);
+	}
+
 	static @Nullable InventoryProvider.Context searchInventoryContextOf(ItemStack stack, @Nullable InspecioConfig.StorageContainerConfig config) {
-		return InventoryProviderManager.getInventoryContext(stack, config);
+		return searchInventoryContextOf(InspectionContext.of(stack), config);
+	}
+
+	static @Nullable InventoryProvider.Context searchInventoryContextOf(InspectionContext context, @Nullable InspecioConfig.StorageContainerConfig config) {
+		return InventoryProviderManager.getInventoryContext(context, config);
 	}
 
 	/**
@@ -57,13 +78,38 @@ public interface InventoryProvider {
 	static void register(InventoryProvider provider, Item... items) {
 		if (items.length != 0) {
 			for (var item : items) {
-				InventoryProviderManager.MAPPED_PROVIDERS.put(item, provider);
+				InventoryProviderManager.register(provider, item);
 			}
 		} else {
-			InventoryProviderManager.PROVIDERS.add(provider);
+			InventoryProviderManager.register(LazyInventoryProvider.of(provider), item -> true);
 		}
 	}
 
+	/**
+	 * Registers an inventory provider which only handles the items in the given tag.
+	 * <p>
+	 * Unlike item-mapped providers, the provider competes with the other providers which handle the same item.
+	 *
+	 * @param provider the inventory provider to register
+	 * @param tag the tag of the items the provider handles
+	 */
+	static void register(InventoryProvider provider, TagKey<Item> tag) {
+		InventoryProviderManager.register(LazyInventoryProvider.of(provider), item -> item.getBuiltInRegistryHolder().isIn(tag));
+	}
+
+	/**
+	 * Registers an inventory provider which only handles the items matching the given filter.
+	 * <p>
+	 * The filter is only evaluated when the dispatch table of the providers is built, and as such must only depend on the item.
+	 * Unlike item-mapped providers, the provider competes with the other providers which handle the same item.
+	 *
+	 * @param provider the inventory provider to register
+	 * @param filter the filter of the items the provider handles
+	 */
+	static void register(InventoryProvider provider, Predicate<Item> filter) {
+		InventoryProviderManager.register(LazyInventoryProvider.of(provider), filter);
+	}
+
 	record Context(List<ItemStack> inventory, int columns, @Nullable DyeColor color) {
 		public Context(List<ItemStack> inventory, int columns) {
 			this(inventory, columns, null);
@@ -19,47 +19,136 @@ package io.github.queerbric.inspecio.api;
 
 import io.github.queerbric.inspecio.InspecioConfig;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import net.fabricmc.api.EnvType;
-import net.fabricmc.api.Environment;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.item.Item;
-import net.minecraft.item.ItemStack;
+import net.minecraft.registry.Registries;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
+/**
+ * Dispatches inventory context requests to the registered inventory providers.
+ * <p>
+ * Generic providers are compared by the size of the inventory they would provide, and only the inventory of the biggest one is built.
+ * The providers which may handle each item are compiled into a frozen dispatch table on first use,
+ * the table is rebuilt after a registration or after the tags are synchronized.
+ * Items which no provider can handle only cost a map lookup.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.2.0
+ */
 @ClientOnly
 @ApiStatus.Internal
-final class InventoryProviderManager {
+public final class InventoryProviderManager {
 	static final Map<Item, InventoryProvider> MAPPED_PROVIDERS = new Object2ObjectOpenHashMap<>();
-	static final List<InventoryProvider> PROVIDERS = new ArrayList<>();
+	static final List<FilteredProvider> PROVIDERS = new ArrayList<>();
+	private static volatile @Nullable Reference2ObjectMap<Item, LazyInventoryProvider[]> dispatchTable;
+
+	private InventoryProviderManager() {
+		throw new UnsupportedOperationException("InventoryProviderManager only contains static definitions.");
+	}
+
+	static void register(LazyInventoryProvider provider, Predicate<Item> filter) {
+		PROVIDERS.add(new FilteredProvider(provider, filter));
+		invalidate();
+	}
+
+	static void register(InventoryProvider provider, Item item) {
+		MAPPED_PROVIDERS.put(item, provider);
+	}
+
+	/**
+	 * Invalidates the dispatch table, it will be rebuilt on the next inventory context request.
+	 */
+	public static void invalidate() {
+		dispatchTable = null;
+	}
+
+	static @Nullable InventoryProvider.Context getInventoryContext(InspectionContext inspection, @Nullable InspecioConfig.StorageContainerConfig config) {
+		// If the biggest inventory turns out to be empty, we fall back to the next biggest one.
+		for (var candidate : getLazyInventoryContexts(inspection, config)) {
+			var context = candidate.context().get();
+			if (context != null)
+				return context;
+		}
+
+		return null;
+	}
+
+	static List<LazyInventoryProvider.LazyContext> getLazyInventoryContexts(InspectionContext inspection,
+			@Nullable InspecioConfig.StorageContainerConfig config) {
+		var stack = inspection.getStack();
+		var candidates = new ArrayList<LazyInventoryProvider.LazyContext>();
 
-	static @Nullable InventoryProvider.Context getInventoryContext(ItemStack stack, @Nullable InspecioConfig.StorageContainerConfig config) {
 		// We first search for providers that are specifically mapped to the given item.
 		var mappedProvider = MAPPED_PROVIDERS.get(stack.getItem());
 		if (mappedProvider != null) {
-			InventoryProvider.Context context = mappedProvider.getInventoryContext(stack, config);
+			InventoryProvider.Context context = mappedProvider.getInventoryContext(inspection, config);
 			if (context != null) {
-				return context;
+				return List.of(new LazyInventoryProvider.LazyContext(context.inventory().size(), () -> context));
 			}
 		}
 
-		// Otherwise, we search for the one who provides the biggest inventory for the given item (most likely to be the most complete one)
+		var providers = getDispatchTable().get(stack.getItem());
+		if (providers == null)
+			return candidates;
+
+		// Otherwise, we search for the one who provides the biggest inventory for the given item (most likely to be the most complete one),
+		// falling back to the next biggest ones if its inventory turns out to be empty.
 		// Note: inventory compacting happens in the inventory tooltip component directly.
-		InventoryProvider.Context context = null;
-		for (var provider : PROVIDERS) {
-			var currentContext = provider.getInventoryContext(stack, config);
-
-			if (currentContext != null) {
-				if (context == null || currentContext.inventory().size() > context.inventory().size()) {
-					context = currentContext;
-				}
+		for (var provider : providers) {
+			var context = provider.getLazyInventoryContext(inspection, config);
+
+			if (context != null) {
+				candidates.add(context);
 			}
 		}
 
-		return context;
+		// The sort is stable, the first registered provider wins among providers of the same size.
+		candidates.sort(Comparator.comparingInt(LazyInventoryProvider.LazyContext::size).reversed());
+		return candidates;
+	}
+
+	private static Reference2ObjectMap<Item, LazyInventoryProvider[]> getDispatchTable() {
+		var table = dispatchTable;
+
+		if (table == null) {
+			table = compileDispatchTable();
+			dispatchTable = table;
+		}
+
+		return table;
+	}
+
+	private static Reference2ObjectMap<Item, LazyInventoryProvider[]> compileDispatchTable() {
+		var table = new Reference2ObjectOpenHashMap<Item, LazyInventoryProvider[]>();
+		var providers = new ArrayList<LazyInventoryProvider>();
+
+		for (var item : Registries.ITEM) {
+			for (var provider : PROVIDERS) {
+				if (provider.filter().test(item))
+					providers.add(provider.provider());
+			}
+
+			if (!providers.isEmpty()) {
+				table.put(item, providers.toArray(LazyInventoryProvider[]::new));
+				providers.clear();
+			}
+		}
+
+		table.trim();
+		return Reference2ObjectMaps.unmodifiable(table);
+	}
+
+	record FilteredProvider(LazyInventoryProvider provider, Predicate<Item> filter) {
 	}
 }
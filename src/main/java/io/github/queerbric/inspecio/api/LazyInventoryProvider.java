@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.api;
+
+import io.github.queerbric.inspecio.InspecioConfig;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.tag.TagKey;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Provides a lazy inventory context for the given item stack.
+ * <p>
+ * Unlike {@link InventoryProvider}, a lazy inventory provider first returns the size of the inventory it would provide,
+ * and only builds the inventory if it is the biggest one among the providers which handle the item stack.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+@FunctionalInterface
+public interface LazyInventoryProvider {
+	/**
+	 * Returns the lazy inventory context of the given item stack.
+	 * <p>
+	 * This should be cheap, the inventory itself should only be built by the returned context.
+	 *
+	 * @param stack the item stack
+	 * @param config the configuration of the container, if any
+	 * @return {@code null} if no inventory context could be created, otherwise a lazy inventory context
+	 */
+	@Nullable LazyContext getLazyInventoryContext(ItemStack stack, @Nullable InspecioConfig.StorageContainerConfig config);
+
+	/**
+	 * Returns the lazy inventory context of the inspected item stack.
+	 * <p>
+	 * Providers should override this method to reuse the data already read from the stack by the inspection context.
+	 *
+	 * @param context the inspection context of the item stack
+	 * @param config the configuration of the container, if any
+	 * @return {@code null} if no inventory context could be created, otherwise a lazy inventory context
+	 */
+	default @Nullable LazyContext getLazyInventoryContext(InspectionContext context, @Nullable InspecioConfig.StorageContainerConfig config) {
+		return this.getLazyInventoryContext(context.getStack(), config);
+	}
+
+	/**
+	 * Adapts the given inventory provider, the inventory context is built eagerly as its size is not known beforehand.
+	 *
+	 * @param provider the inventory provider to adapt
+	 * @return the adapted inventory provider
+	 */
+	static LazyInventoryProvider of(InventoryProvider provider) {
+		return new LazyInventoryProvider() {
+			@Override
+			public @Nullable LazyContext getLazyInventoryContext(ItemStack stack, @Nullable InspecioConfig.StorageContainerConfig config) {
+				return this.getLazyInventoryContext(InspectionContext.of(stack), config);
+			}
+
+			@Override
+			public @Nullable LazyContext getLazyInventoryContext(InspectionContext inspection, @Nullable InspecioConfig.StorageContainerConfig config) {
+				var context = provider.getInventoryContext(inspection, config);
+				return context == null ? null : new LazyContext(context.inventory().size(), () -> context);
+			}
+		};
+	}
+
+	/**
+	 * Registers a lazy inventory provider which handles every item.
+	 *
+	 * @param provider the lazy inventory provider to register
+	 */
+	static void register(LazyInventoryProvider provider) {
+		InventoryProviderManager.register(provider, item -> true);
+	}
+
+	/**
+	 * Registers a lazy inventory provider which only handles the items in the given tag.
+	 *
+	 * @param provider the lazy inventory provider to register
+	 * @param tag the tag of the items the provider handles
+	 */
+	static void register(LazyInventoryProvider provider, TagKey<Item> tag) {
+		InventoryProviderManager.register(provider, item -> item.getBuiltInRegistryHolder().isIn(tag));
+	}
+
+	/**
+	 * Registers a lazy inventory provider which only handles the items matching the given filter.
+	 * <p>
+	 * The filter is only evaluated when the dispatch table of the providers is built, and as such must only depend on the item.
+	 *
+	 * @param provider the lazy inventory provider to register
+	 * @param filter the filter of the items the provider handles
+	 */
+	static void register(LazyInventoryProvider provider, Predicate<Item> filter) {
+		InventoryProviderManager.register(provider, filter);
+	}
+
+	/**
+	 * Searches the lazy inventory contexts provided for the inspected item stack, without building their inventories.
+	 * <p>
+	 * This must be called on the render thread as the providers are not required to be thread-safe.
+	 *
+	 * @param context the inspection context of the item stack
+	 * @param config the configuration of the container, if any
+	 * @return the lazy inventory contexts from the biggest inventory to the smallest,
+	 * the next context should be used if the inventory of a context turns out to be empty
+	 */
+	static List<LazyContext> searchLazyInventoryContextsOf(InspectionContext context, @Nullable InspecioConfig.StorageContainerConfig config) {
+		return InventoryProviderManager.getLazyInventoryContexts(context, config);
+	}
+
+	/**
+	 * Represents a lazy inventory context.
+	 *
+	 * @param size the size of the inventory the context would provide, used to pick the biggest inventory,
+	 * this must be the real size of the inventory, such as its slot count, and not the amount of stacks it would display
+	 * @param context the supplier of the inventory context, which may return {@code null} if the inventory turns out to be empty,
+	 * in which case the context of the next biggest inventory is used
+	 * @param threadSafe {@code true} if the supplier only decodes data which the render thread does not modify,
+	 * in which case it may be called on a worker thread, or {@code false} if it must be called on the render thread
+	 */
+	record LazyContext(int size, Supplier<InventoryProvider.Context> context, boolean threadSafe) {
+		public LazyContext(int size, Supplier<InventoryProvider.Context> context) {
+			this(size, context, false);
+		}
+	}
+}
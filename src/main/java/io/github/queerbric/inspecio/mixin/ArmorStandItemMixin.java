@@ -17,6 +17,7 @@
 
 package io.github.queerbric.inspecio.mixin;
 
+import io.github.queerbric.inspecio.TooltipDataCache;
 import io.github.queerbric.inspecio.tooltip.ArmorStandTooltipComponent;
 import net.minecraft.client.item.TooltipData;
 import net.minecraft.item.ArmorStandItem;
@@ -36,6 +37,6 @@ public class ArmorStandItemMixin extends Item {
 
 	@Override
 	public Optional<TooltipData> getTooltipData(ItemStack stack) {
-		return ArmorStandTooltipComponent.of(stack.getOrCreateNbt()).or(() -> super.getTooltipData(stack));
+		return TooltipDataCache.getOrBuild(stack, () -> ArmorStandTooltipComponent.of(stack.getOrCreateNbt()).or(() -> super.getTooltipData(stack)));
 	}
 }
@@ -17,6 +17,7 @@
 
 package io.github.queerbric.inspecio.mixin;
 
+import io.github.queerbric.inspecio.TooltipDataCache;
 import io.github.queerbric.inspecio.tooltip.BannerTooltipComponent;
 import net.minecraft.block.entity.BannerPattern;
 import net.minecraft.client.item.TooltipData;
@@ -42,6 +43,6 @@ public abstract class BannerPatternItemMixin extends Item {
 
 	@Override
 	public Optional<TooltipData> getTooltipData(ItemStack stack) {
-		return BannerTooltipComponent.of(this.getPattern()).or(() -> super.getTooltipData(stack));
+		return TooltipDataCache.getOrBuild(stack, () -> BannerTooltipComponent.of(this.getPattern()).or(() -> super.getTooltipData(stack)));
 	}
 }
@@ -17,9 +17,14 @@
 
 package io.github.queerbric.inspecio.mixin;
 
+import com.mojang.datafixers.util.Either;
+import io.github.queerbric.inspecio.AsyncTooltipLoader;
+import io.github.queerbric.inspecio.ConfigSnapshot;
 import io.github.queerbric.inspecio.Inspecio;
 import io.github.queerbric.inspecio.InspecioConfig;
-import io.github.queerbric.inspecio.api.InventoryProvider;
+import io.github.queerbric.inspecio.TooltipDataCache;
+import io.github.queerbric.inspecio.api.InspectionContext;
+import io.github.queerbric.inspecio.api.LazyInventoryProvider;
 import io.github.queerbric.inspecio.tooltip.*;
 import net.minecraft.block.*;
 import net.minecraft.client.gui.screen.Screen;
@@ -34,6 +39,7 @@ import net.minecraft.world.World;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -54,12 +60,15 @@ public abstract class BlockItemMixin extends Item {
 
 	@Override
 	public Optional<TooltipData> getTooltipData(ItemStack stack) {
-		var inspecioConfig = Inspecio.getConfig();
-		var containersConfig = inspecioConfig.getContainersConfig();
-		var effectsConfig = inspecioConfig.getEffectsConfig();
+		return TooltipDataCache.getOrBuild(stack, () -> this.inspecio$buildTooltipData(stack));
+	}
+
+	@Unique
+	private Optional<TooltipData> inspecio$buildTooltipData(ItemStack stack) {
+		var inspection = InspectionContext.of(stack);
 
-		if (effectsConfig.hasBeacon() && this.getBlock() instanceof BeaconBlock) {
-			var blockEntityTag = BlockItem.getBlockEntityNbtFromStack(stack);
+		if (inspection.getConfig().has(ConfigSnapshot.Flag.BEACON) && this.getBlock() instanceof BeaconBlock) {
+			var blockEntityTag = inspection.getBlockEntityNbt();
 			var effectsList = new ArrayList<StatusEffectInstance>();
 			var primary = Inspecio.getRawEffectFromTag(blockEntityTag, "Primary");
 			var secondary = Inspecio.getRawEffectFromTag(blockEntityTag, "Secondary");
@@ -89,22 +98,51 @@ public abstract class BlockItemMixin extends Item {
 		} else if (this.getBlock() instanceof ChiseledBookshelfBlock) {
 			var data = ChiseledBookshelfTooltipComponent.of(stack);
 			if (data.isPresent()) return data;
-		} else {
-			InspecioConfig.StorageContainerConfig config = containersConfig.forBlock(this.getBlock());
-			InventoryProvider.Context context = InventoryProvider.searchInventoryContextOf(stack, config);
+		} else if (inspection.getBlockEntityNbt() != null) {
+			InspecioConfig.StorageContainerConfig config = inspection.getContainerConfig();
+			var effectiveConfig = config == null ? inspection.getConfig().getStorageConfig() : config;
+			boolean compact = effectiveConfig.isCompact();
+			int maxRows = effectiveConfig.getMaxRows();
 
-			if (config == null) {
-				config = containersConfig.getStorageConfig();
-			}
+			// Inventory providers are selected on the render thread, only the decoding of thread-safe inventories is handed to a worker.
+			return AsyncTooltipLoader.<Either<Optional<TooltipData>, List<LazyInventoryProvider.LazyContext>>>load(stack, snapshot -> {
+				var candidates = LazyInventoryProvider.searchLazyInventoryContextsOf(InspectionContext.of(snapshot), config);
 
-			if (context != null) {
-				return InventoryTooltipComponent.of(stack, config.isCompact(), context);
-			}
+				return () -> {
+					for (int i = 0; i < candidates.size(); i++) {
+						var candidate = candidates.get(i);
+
+						if (!candidate.threadSafe()) {
+							// The remaining candidates are built by the finisher on the render thread.
+							return Either.right(candidates.subList(i, candidates.size()));
+						}
+
+						var context = candidate.context().get();
+						if (context != null)
+							return Either.left(InventoryTooltipComponent.of(snapshot, compact, maxRows, context));
+					}
+
+					return Either.right(List.of());
+				};
+			}, result -> result.map(data -> data, remaining -> {
+				for (var candidate : remaining) {
+					var context = candidate.context().get();
+					if (context != null)
+						return InventoryTooltipComponent.of(stack, compact, maxRows, context);
+				}
+
+				return this.inspecio$getDefaultTooltipData(stack);
+			}));
 		}
 
 		return super.getTooltipData(stack);
 	}
 
+	@Unique
+	private Optional<TooltipData> inspecio$getDefaultTooltipData(ItemStack stack) {
+		return super.getTooltipData(stack);
+	}
+
 	@Inject(method = "appendTooltip", at = @At("HEAD"), cancellable = true)
 	private void onAppendTooltip(ItemStack stack, World world, List<Text> tooltip, TooltipContext context, CallbackInfo ci) {
 		if (this.getBlock() instanceof ShulkerBoxBlock && !Screen.hasControlDown()) {
@@ -17,6 +17,7 @@
 
 package io.github.queerbric.inspecio.mixin;
 
+import io.github.queerbric.inspecio.TooltipDataCache;
 import io.github.queerbric.inspecio.tooltip.EntityBucketTooltipComponent;
 import net.minecraft.client.item.TooltipData;
 import net.minecraft.entity.EntityType;
@@ -43,6 +44,6 @@ public abstract class EntityBucketItemMixin extends Item {
 
 	@Override
 	public Optional<TooltipData> getTooltipData(ItemStack stack) {
-		return EntityBucketTooltipComponent.of(this.entityType, stack.getOrCreateNbt()).or(() -> super.getTooltipData(stack));
+		return TooltipDataCache.getOrBuild(stack, () -> EntityBucketTooltipComponent.of(this.entityType, stack.getOrCreateNbt()).or(() -> super.getTooltipData(stack)));
 	}
 }
@@ -17,6 +17,7 @@
 
 package io.github.queerbric.inspecio.mixin;
 
+import io.github.queerbric.inspecio.TooltipDataCache;
 import io.github.queerbric.inspecio.tooltip.MapTooltipComponent;
 import net.minecraft.client.item.TooltipData;
 import net.minecraft.item.FilledMapItem;
@@ -37,6 +38,6 @@ public abstract class FilledMapItemMixin extends Item {
 
 	@Override
 	public Optional<TooltipData> getTooltipData(ItemStack stack) {
-		return MapTooltipComponent.of(stack).or(() -> super.getTooltipData(stack));
+		return TooltipDataCache.getOrBuild(stack, () -> MapTooltipComponent.of(stack).or(() -> super.getTooltipData(stack)));
 	}
 }
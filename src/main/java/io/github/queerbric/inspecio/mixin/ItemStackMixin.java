@@ -17,8 +17,10 @@
 
 package io.github.queerbric.inspecio.mixin;
 
+import io.github.queerbric.inspecio.ConfigSnapshot;
 import io.github.queerbric.inspecio.Inspecio;
-import io.github.queerbric.inspecio.InspecioConfig;
+import io.github.queerbric.inspecio.TooltipDataCache;
+import io.github.queerbric.inspecio.api.InspectionContext;
 import io.github.queerbric.inspecio.tooltip.*;
 import net.minecraft.client.gui.tooltip.TooltipComponent;
 import net.minecraft.client.item.TooltipContext;
@@ -63,6 +65,12 @@ public abstract class ItemStackMixin {
 	@Unique
 	private final ThreadLocal<List<Text>> inspecio$tooltipList = new ThreadLocal<>();
 
+	@Inject(method = "getTooltip", at = @At("HEAD"))
+	private void onGetTooltipHead(PlayerEntity player, TooltipContext context, CallbackInfoReturnable<List<Text>> cir) {
+		// The context is ended on return, as search trees and recipe viewers request the tooltip text without the tooltip data.
+		InspectionContext.begin((ItemStack) (Object) this);
+	}
+
 	@Inject(
 			method = "getTooltip",
 			at = @At(value = "INVOKE", target = "Lnet/minecraft/item/ItemStack;hasCustomName()Z"),
@@ -78,9 +86,9 @@ public abstract class ItemStackMixin {
 	)
 	private void onGetTooltip(PlayerEntity player, TooltipContext context, CallbackInfoReturnable<List<Text>> cir) {
 		var tooltip = this.inspecio$tooltipList.get();
-		InspecioConfig.AdvancedTooltipsConfig advancedTooltipsConfig = Inspecio.getConfig().getAdvancedTooltipsConfig();
+		var config = Inspecio.getSnapshot();
 
-		if (advancedTooltipsConfig.hasLodestoneCoords() && this.getItem() instanceof CompassItem && CompassItem.hasLodestone((ItemStack) (Object) this)) {
+		if (config.has(ConfigSnapshot.Flag.LODESTONE_COORDS) && this.getItem() instanceof CompassItem && CompassItem.hasLodestone((ItemStack) (Object) this)) {
 			var nbt = this.getNbt();
 			assert nbt != null; // Should not be null since hasLodestone returns true.
 
@@ -99,29 +107,52 @@ public abstract class ItemStackMixin {
 		}
 
 		int repairCost;
-		if (advancedTooltipsConfig.hasRepairCost() && (repairCost = this.getRepairCost()) != 0) {
+		if (config.has(ConfigSnapshot.Flag.REPAIR_COST) && (repairCost = this.getRepairCost()) != 0) {
 			tooltip.add(Text.translatable("inspecio.tooltip.repair_cost", repairCost)
 					.formatted(Formatting.GRAY));
 		}
+
+		InspectionContext.end();
+	}
+
+	@Inject(method = "getTooltipData", at = @At("HEAD"))
+	private void onGetTooltipDataHead(CallbackInfoReturnable<Optional<TooltipData>> info) {
+		// The tooltip data of the item itself is cached by the item mixins, so the injections of other mods always run.
+		InspectionContext.begin((ItemStack) (Object) this);
 	}
 
 	@Inject(method = "getTooltipData", at = @At("RETURN"), cancellable = true)
 	private void getTooltipData(CallbackInfoReturnable<Optional<TooltipData>> info) {
+		var base = info.getReturnValue();
+		// The tooltip data of vanilla items and other mods may depend on more than the NBT of the stack.
+		var key = TooltipDataCache.isCacheable(base.orElse(null)) ? InspectionContext.of((ItemStack) (Object) this).getCacheKey() : null;
+
+		if (key != null) {
+			var data = TooltipDataCache.getComposed(key, base);
+
+			if (data != null) {
+				InspectionContext.end();
+				if (data != base)
+					info.setReturnValue(data);
+				return;
+			}
+		}
+
 		// Data is the plural and datum is the singular actually, but no one cares
 		var datas = new ArrayList<TooltipData>();
-		info.getReturnValue().ifPresent(datas::add);
+		base.ifPresent(datas::add);
 
-		var config = Inspecio.getConfig();
+		var config = Inspecio.getSnapshot();
 		var stack = (ItemStack) (Object) this;
 
 		if (stack.isFood()) {
 			var comp = stack.getItem().getFoodComponent();
 
-			if (config.getFoodConfig().isEnabled()) {
+			if (config.has(ConfigSnapshot.Flag.FOOD)) {
 				datas.add(new FoodTooltipComponent(comp));
 			}
 
-			if (config.getEffectsConfig().hasPotions()) {
+			if (config.has(ConfigSnapshot.Flag.POTIONS)) {
 				if (stack.isIn(Inspecio.HIDDEN_EFFECTS_TAG)) {
 					datas.add(new StatusEffectTooltipComponent());
 				} else {
@@ -160,5 +191,10 @@ public abstract class ItemStackMixin {
 			}
 			info.setReturnValue(Optional.of(comp));
 		}
+
+		if (key != null) {
+			TooltipDataCache.putComposed(key, base, info.getReturnValue());
+		}
+		InspectionContext.end();
 	}
 }
@@ -17,6 +17,7 @@
 
 package io.github.queerbric.inspecio.mixin;
 
+import io.github.queerbric.inspecio.ConfigSnapshot;
 import io.github.queerbric.inspecio.Inspecio;
 import net.minecraft.client.item.TooltipContext;
 import net.minecraft.item.ItemStack;
@@ -37,6 +38,6 @@ public class LingeringPotionItemMixin {
 
 	@Inject(at = @At("HEAD"), method = "appendTooltip", cancellable = true)
 	public void appendTooltip(ItemStack stack, World world, List<Text> tooltip, TooltipContext context, CallbackInfo info) {
-		if (Inspecio.getConfig().getEffectsConfig().hasPotions()) info.cancel();
+		if (Inspecio.getSnapshot().has(ConfigSnapshot.Flag.POTIONS)) info.cancel();
 	}
 }
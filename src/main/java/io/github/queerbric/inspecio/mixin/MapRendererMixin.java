@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.mixin;
+
+import io.github.queerbric.inspecio.tooltip.MapTooltipComponent;
+import net.minecraft.client.render.MapRenderer;
+import net.minecraft.item.map.MapState;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@ClientOnly
+@Mixin(MapRenderer.class)
+public abstract class MapRendererMixin {
+	@Inject(method = "updateTexture", at = @At("HEAD"))
+	private void onUpdateTexture(int id, MapState state, CallbackInfo ci) {
+		MapTooltipComponent.invalidate(id);
+	}
+
+	@Inject(method = "clearStateTextures", at = @At("HEAD"))
+	private void onClearStateTextures(CallbackInfo ci) {
+		MapTooltipComponent.clearCache();
+	}
+}
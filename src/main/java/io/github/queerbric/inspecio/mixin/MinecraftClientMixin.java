@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.mixin;
+
+import io.github.queerbric.inspecio.ConfigSaver;
+import io.github.queerbric.inspecio.Inspecio;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.client.world.ClientWorld;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@ClientOnly
+@Mixin(MinecraftClient.class)
+public abstract class MinecraftClientMixin {
+	@Inject(method = "joinWorld", at = @At("TAIL"))
+	private void onJoinWorld(ClientWorld world, CallbackInfo ci) {
+		Inspecio.onWorldChanged();
+	}
+
+	@Inject(method = "disconnect(Lnet/minecraft/client/gui/screen/Screen;)V", at = @At("TAIL"))
+	private void onDisconnect(Screen screen, CallbackInfo ci) {
+		Inspecio.onWorldChanged();
+	}
+
+	@Inject(method = "stop", at = @At("HEAD"))
+	private void onStop(CallbackInfo ci) {
+		ConfigSaver.flush();
+	}
+}
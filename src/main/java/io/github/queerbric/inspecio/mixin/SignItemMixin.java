@@ -17,6 +17,7 @@
 
 package io.github.queerbric.inspecio.mixin;
 
+import io.github.queerbric.inspecio.TooltipDataCache;
 import io.github.queerbric.inspecio.tooltip.SignTooltipComponent;
 import net.minecraft.block.Block;
 import net.minecraft.client.item.TooltipData;
@@ -39,6 +40,6 @@ public class SignItemMixin extends WallStandingBlockItem {
 
 	@Override
 	public Optional<TooltipData> getTooltipData(ItemStack stack) {
-		return SignTooltipComponent.fromItemStack(stack).or(() -> super.getTooltipData(stack));
+		return TooltipDataCache.getOrBuild(stack, () -> SignTooltipComponent.fromItemStack(stack).or(() -> super.getTooltipData(stack)));
 	}
 }
@@ -17,6 +17,7 @@
 
 package io.github.queerbric.inspecio.mixin;
 
+import io.github.queerbric.inspecio.TooltipDataCache;
 import io.github.queerbric.inspecio.tooltip.SpawnEntityTooltipComponent;
 import net.minecraft.client.item.TooltipData;
 import net.minecraft.entity.EntityType;
@@ -43,6 +44,6 @@ public class SpawnEggItemMixin extends Item {
 
 	@Override
 	public Optional<TooltipData> getTooltipData(ItemStack stack) {
-		return SpawnEntityTooltipComponent.of(this.type, stack.getOrCreateNbt()).or(() -> super.getTooltipData(stack));
+		return TooltipDataCache.getOrBuild(stack, () -> SpawnEntityTooltipComponent.of(this.type, stack.getOrCreateNbt()).or(() -> super.getTooltipData(stack)));
 	}
 }
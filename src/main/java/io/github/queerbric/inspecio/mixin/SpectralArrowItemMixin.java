@@ -17,7 +17,9 @@
 
 package io.github.queerbric.inspecio.mixin;
 
+import io.github.queerbric.inspecio.ConfigSnapshot;
 import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.TooltipDataCache;
 import io.github.queerbric.inspecio.tooltip.StatusEffectTooltipComponent;
 import net.minecraft.client.item.TooltipData;
 import net.minecraft.entity.effect.StatusEffectInstance;
@@ -27,6 +29,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.item.SpectralArrowItem;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -40,7 +43,12 @@ public class SpectralArrowItemMixin extends ArrowItem {
 
 	@Override
 	public Optional<TooltipData> getTooltipData(ItemStack stack) {
-		if (!Inspecio.getConfig().getEffectsConfig().hasSpectralArrow()) return super.getTooltipData(stack);
+		return TooltipDataCache.getOrBuild(stack, () -> this.inspecio$buildTooltipData(stack));
+	}
+
+	@Unique
+	private Optional<TooltipData> inspecio$buildTooltipData(ItemStack stack) {
+		if (!Inspecio.getSnapshot().has(ConfigSnapshot.Flag.SPECTRAL_ARROW)) return super.getTooltipData(stack);
 		return Optional.of(new StatusEffectTooltipComponent(
 				Collections.singletonList(new StatusEffectInstance(StatusEffects.GLOWING, 200, 0)),
 				1.f
@@ -17,7 +17,9 @@
 
 package io.github.queerbric.inspecio.mixin;
 
+import io.github.queerbric.inspecio.ConfigSnapshot;
 import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.TooltipDataCache;
 import io.github.queerbric.inspecio.tooltip.StatusEffectTooltipComponent;
 import net.minecraft.client.item.TooltipContext;
 import net.minecraft.client.item.TooltipData;
@@ -55,14 +57,19 @@ public abstract class TippedArrowItemMixin extends Item {
 
 	@Inject(method = "appendTooltip", at = @At("RETURN"))
 	private void onAppendTooltipPost(ItemStack stack, World world, List<Text> tooltip, TooltipContext context, CallbackInfo info) {
-		if (Inspecio.getConfig().getEffectsConfig().hasTippedArrows()) {
+		if (Inspecio.getSnapshot().has(ConfigSnapshot.Flag.TIPPED_ARROWS)) {
 			Inspecio.removeVanillaTooltips(tooltip, this.inspecio$oldTooltipLength.get());
 		}
 	}
 
 	@Override
 	public Optional<TooltipData> getTooltipData(ItemStack stack) {
-		if (!Inspecio.getConfig().getEffectsConfig().hasTippedArrows()) return super.getTooltipData(stack);
+		return TooltipDataCache.getOrBuild(stack, () -> this.inspecio$buildTooltipData(stack));
+	}
+
+	@Unique
+	private Optional<TooltipData> inspecio$buildTooltipData(ItemStack stack) {
+		if (!Inspecio.getSnapshot().has(ConfigSnapshot.Flag.TIPPED_ARROWS)) return super.getTooltipData(stack);
 		return Optional.of(new StatusEffectTooltipComponent(PotionUtil.getPotionEffects(stack), 0.125F));
 	}
 }
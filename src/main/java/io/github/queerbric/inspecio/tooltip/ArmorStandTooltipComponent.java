@@ -20,7 +20,6 @@ package io.github.queerbric.inspecio.tooltip;
 import io.github.queerbric.inspecio.Inspecio;
 import io.github.queerbric.inspecio.InspecioConfig;
 import io.github.queerbric.inspecio.mixin.EntityAccessor;
-import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.screen.Screen;
@@ -29,6 +28,7 @@ import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.nbt.NbtCompound;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
 
@@ -41,29 +41,51 @@ import java.util.Optional;
  */
 public class ArmorStandTooltipComponent extends EntityTooltipComponent<InspecioConfig.EntityConfig> {
 	private final Entity entity;
+	private final @Nullable EntityPreviewPool.Handle handle;
 
 	public ArmorStandTooltipComponent(InspecioConfig.EntityConfig config, Entity entity) {
+		this(config, entity, null);
+	}
+
+	private ArmorStandTooltipComponent(InspecioConfig.EntityConfig config, Entity entity, @Nullable EntityPreviewPool.Handle handle) {
 		super(config);
 		this.entity = entity;
+		this.handle = handle;
 	}
 
 	public static Optional<TooltipData> of(NbtCompound itemNbt) {
-		var entitiesConfig = Inspecio.getConfig().getEntitiesConfig();
-		var entityType = EntityType.ARMOR_STAND;
-		if (!entitiesConfig.getArmorStandConfig().isEnabled())
+		var config = Inspecio.getSnapshot();
+		if (!config.getArmorStandConfig().isEnabled())
+			return Optional.empty();
+
+		var source = itemNbt.copy();
+		var handle = new EntityPreviewPool.Handle(EntityType.ARMOR_STAND, source, config.getPufferFishPuffState(), (entity, entityTag) -> {
+			adjustEntity(entity, source, config);
+			var uuid = entity.getUuid();
+			entityTag.copyFrom(source.getCompound("EntityTag"));
+			entity.setUuid(uuid);
+			entity.readNbt(entityTag);
+		});
+
+		var entity = handle.acquire();
+		if (entity == null)
 			return Optional.empty();
 
-		var client = MinecraftClient.getInstance();
-		var entity = entityType.create(client.world);
-		assert entity != null;
-		adjustEntity(entity, itemNbt, entitiesConfig);
-		var itemEntityNbt = itemNbt.getCompound("EntityTag").copy();
-		var entityTag = entity.writeNbt(new NbtCompound());
-		var uuid = entity.getUuid();
-		entityTag.copyFrom(itemEntityNbt);
-		entity.setUuid(uuid);
-		entity.readNbt(entityTag);
-		return Optional.of(new ArmorStandTooltipComponent(entitiesConfig.getArmorStandConfig(), entity));
+		return Optional.of(new ArmorStandTooltipComponent(config.getArmorStandConfig(), entity, handle));
+	}
+
+	/**
+	 * {@return the armor stand to render}
+	 * <p>
+	 * The armor stand is pooled and shared between tooltips, so it is acquired again to make sure it holds the data of this tooltip.
+	 */
+	private Entity getEntity() {
+		if (this.handle != null) {
+			var entity = this.handle.acquire();
+			if (entity != null) return entity;
+		}
+
+		return this.entity;
 	}
 
 	@Override
@@ -72,9 +94,10 @@ public class ArmorStandTooltipComponent extends EntityTooltipComponent<InspecioC
 			MatrixStack matrices = graphics.getMatrices();
 			matrices.push();
 			matrices.translate(30, 0, 0);
-			((EntityAccessor) this.entity).setTouchingWater(true);
-			this.entity.setVelocity(1.f, 1.f, 1.f);
-			this.renderEntity(matrices, x + 20, y + 12, this.entity, 0, this.config.shouldSpin(), true, 180.f);
+			var entity = this.getEntity();
+			((EntityAccessor) entity).setTouchingWater(true);
+			entity.setVelocity(1.f, 1.f, 1.f);
+			this.renderEntity(matrices, x + 20, y + 12, entity, 0, this.config.shouldSpin(), true, 180.f);
 			matrices.pop();
 		}
 	}
@@ -96,6 +119,6 @@ public class ArmorStandTooltipComponent extends EntityTooltipComponent<InspecioC
 
 	@Override
 	protected boolean shouldRenderCustomNames() {
-		return this.entity.hasCustomName() && (this.config.shouldAlwaysShowName() || Screen.hasControlDown());
+		return this.getEntity().hasCustomName() && (this.config.shouldAlwaysShowName() || Screen.hasControlDown());
 	}
 }
@@ -17,7 +17,9 @@
 
 package io.github.queerbric.inspecio.tooltip;
 
+import io.github.queerbric.inspecio.ConfigSnapshot;
 import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.TooltipStats;
 import io.github.queerbric.inspecio.mixin.ItemStackAccessor;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.GuiGraphics;
@@ -30,13 +32,23 @@ import java.util.Optional;
 
 public class ArmorTooltipComponent implements ConvertibleTooltipData, TooltipComponent {
 	private final int prot;
+	private final IconStrip icons;
 
 	public ArmorTooltipComponent(int prot) {
 		this.prot = prot;
+
+		var icons = IconStrip.builder(Inspecio.GUI_ICONS_TEXTURE, 256, 256);
+		for (int i = 0; i < this.prot / 2; i++) {
+			icons.add(i * 9, 0, 34, 9, 9, 9, IconStrip.WHITE);
+		}
+		if (this.prot % 2 == 1) {
+			icons.add(this.prot / 2 * 9, 0, 25, 9, 9, 9, IconStrip.WHITE);
+		}
+		this.icons = icons.build();
 	}
 
 	public static Optional<ArmorTooltipComponent> of(ItemStack stack) {
-		if (stack.getItem() instanceof ArmorItem armor && Inspecio.getConfig().hasArmor()) {
+		if (stack.getItem() instanceof ArmorItem armor && Inspecio.getSnapshot().has(ConfigSnapshot.Flag.ARMOR)) {
 			int prot = armor.getMaterial().getProtection(armor.getArmorSlot());
 
 			int hideFlags = ((ItemStackAccessor) (Object) stack).invokeGetHideFlags();
@@ -50,7 +62,7 @@ public class ArmorTooltipComponent implements ConvertibleTooltipData, TooltipCom
 
 	@Override
 	public TooltipComponent toComponent() {
-		return this;
+		return TooltipStats.wrap(this);
 	}
 
 	@Override
@@ -65,11 +77,6 @@ public class ArmorTooltipComponent implements ConvertibleTooltipData, TooltipCom
 
 	@Override
 	public void drawItems(TextRenderer textRenderer, int x, int y, GuiGraphics graphics) {
-		for (int i = 0; i < this.prot / 2; i++) {
-			graphics.drawTexture(Inspecio.GUI_ICONS_TEXTURE, x + i * 9, y, 34, 9, 9, 9, 256, 256);
-		}
-		if (this.prot % 2 == 1) {
-			graphics.drawTexture(Inspecio.GUI_ICONS_TEXTURE, x + this.prot / 2 * 9, y, 25, 9, 9, 9, 256, 256);
-		}
+		this.icons.draw(graphics, x, y);
 	}
 }
@@ -17,9 +17,13 @@
 
 package io.github.queerbric.inspecio.tooltip;
 
-import com.google.common.collect.ImmutableList;
 import com.mojang.blaze3d.lighting.DiffuseLighting;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.datafixers.util.Pair;
+import io.github.queerbric.inspecio.ConfigSnapshot;
 import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.LruCache;
+import io.github.queerbric.inspecio.TooltipStats;
 import net.minecraft.block.entity.BannerBlockEntity;
 import net.minecraft.block.entity.BannerPattern;
 import net.minecraft.client.MinecraftClient;
@@ -34,41 +38,80 @@ import net.minecraft.client.render.block.entity.BannerBlockEntityRenderer;
 import net.minecraft.client.render.entity.model.EntityModelLayers;
 import net.minecraft.client.render.model.ModelLoader;
 import net.minecraft.client.util.math.MatrixStack;
-import net.minecraft.nbt.NbtList;
+import net.minecraft.registry.Holder;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.tag.TagKey;
 import net.minecraft.util.DyeColor;
+import org.jetbrains.annotations.Nullable;
 import org.quiltmc.qsl.tooltip.api.ConvertibleTooltipData;
 
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * Represents a banner pattern tooltip, which displays the patterns of a banner pattern item on a gray banner.
+ * <p>
+ * The patterns are resolved once per tag and kept until tags are synchronized again,
+ * and the banner model part is shared by every banner tooltip until resources are reloaded.
+ * Patterns are resolved and cleared on the render thread only, so a cleared cache cannot be repopulated with the previous tag contents.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.0.0
+ */
 public class BannerTooltipComponent implements ConvertibleTooltipData, TooltipComponent {
+	private static final LruCache<TagKey<BannerPattern>, List<Pair<Holder<BannerPattern>, DyeColor>>> PATTERNS = LruCache.create("banner_pattern", 32);
+	private static @Nullable ModelPart bannerField;
 	private final MinecraftClient client = MinecraftClient.getInstance();
-	private final NbtList pattern;
-	private final ModelPart bannerField;
+	private final List<Pair<Holder<BannerPattern>, DyeColor>> patterns;
 
-	private BannerTooltipComponent(NbtList pattern) {
-		this.pattern = pattern;
-		this.bannerField = this.client.getEntityModelLoader().getModelPart(EntityModelLayers.BANNER).getChild("flag");
+	private BannerTooltipComponent(List<Pair<Holder<BannerPattern>, DyeColor>> patterns) {
+		this.patterns = patterns;
 	}
 
 	public static Optional<TooltipData> of(TagKey<BannerPattern> pattern) {
-		if (!Inspecio.getConfig().hasBannerPattern())
+		if (!Inspecio.getSnapshot().has(ConfigSnapshot.Flag.BANNER_PATTERN))
 			return Optional.empty();
 
-		var patternList = Registries.BANNER_PATTERN.getTag(pattern).map(ImmutableList::copyOf).orElse(ImmutableList.of());
-		var patterns = new BannerPattern.Patterns();
+		return Optional.of(new BannerTooltipComponent(resolvePatterns(pattern)));
+	}
+
+	private static List<Pair<Holder<BannerPattern>, DyeColor>> resolvePatterns(TagKey<BannerPattern> pattern) {
+		// Tags are synchronized on the render thread, resolving patterns anywhere else could race with the clearing of the cache.
+		RenderSystem.assertOnRenderThread();
+		return PATTERNS.computeIfAbsent(pattern, key -> {
+			var patterns = new BannerPattern.Patterns();
+
+			Registries.BANNER_PATTERN.getTag(key).ifPresent(tag -> {
+				for (var p : tag) {
+					patterns.add(p, DyeColor.WHITE);
+				}
+			});
+
+			return List.copyOf(BannerBlockEntity.getPatternsFromNbt(DyeColor.GRAY, patterns.toNbt()));
+		});
+	}
+
+	/**
+	 * Clears the resolved patterns and the shared banner model part,
+	 * this is done on the render thread when tags are synchronized and when resources are reloaded.
+	 */
+	public static void clearCache() {
+		RenderSystem.assertOnRenderThread();
+		PATTERNS.clear();
+		bannerField = null;
+	}
 
-		for (var p : patternList) {
-			patterns.add(p, DyeColor.WHITE);
-		}
+	private ModelPart getBannerField() {
+		if (bannerField == null)
+			bannerField = this.client.getEntityModelLoader().getModelPart(EntityModelLayers.BANNER).getChild("flag");
 
-		return Optional.of(new BannerTooltipComponent(patterns.toNbt()));
+		return bannerField;
 	}
 
 	@Override
 	public TooltipComponent toComponent() {
-		return this;
+		return TooltipStats.wrap(this);
 	}
 
 	@Override
@@ -92,11 +135,11 @@ public class BannerTooltipComponent implements ConvertibleTooltipData, TooltipCo
 		matrices.scale(6, -6, 1);
 		matrices.scale(2, -2, -2);
 		var immediate = this.client.getBufferBuilders().getEntityVertexConsumers();
-		this.bannerField.pitch = 0.f;
-		this.bannerField.pivotY = -32.f;
-		var list = BannerBlockEntity.getPatternsFromNbt(DyeColor.GRAY, this.pattern);
+		var bannerField = this.getBannerField();
+		bannerField.pitch = 0.f;
+		bannerField.pivotY = -32.f;
 		BannerBlockEntityRenderer.renderCanvas(matrices, immediate, LightmapTextureManager.MAX_LIGHT_COORDINATE, OverlayTexture.DEFAULT_UV,
-				this.bannerField, ModelLoader.BANNER_BASE, true, list);
+				bannerField, ModelLoader.BANNER_BASE, true, this.patterns);
 		matrices.pop();
 		immediate.draw();
 		matrices.pop();
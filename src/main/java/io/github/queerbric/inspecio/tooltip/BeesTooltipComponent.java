@@ -19,6 +19,9 @@ package io.github.queerbric.inspecio.tooltip;
 
 import io.github.queerbric.inspecio.Inspecio;
 import io.github.queerbric.inspecio.InspecioConfig;
+import io.github.queerbric.inspecio.LruCache;
+import io.github.queerbric.inspecio.NbtFingerprint;
+import io.github.queerbric.inspecio.api.InspectionContext;
 import net.minecraft.block.BeehiveBlock;
 import net.minecraft.block.entity.BeehiveBlockEntity;
 import net.minecraft.client.font.TextRenderer;
@@ -28,10 +31,10 @@ import net.minecraft.client.item.TooltipData;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
-import net.minecraft.item.BlockItem;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.*;
 import net.minecraft.util.Identifier;
+import net.minecraft.world.World;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,39 +45,97 @@ import java.util.function.Function;
  * Represents a tooltip component which displays bees from a beehive.
  *
  * @author LambdAurora
- * @version 1.8.0
+ * @version 1.9.0
  * @since 1.0.0
  */
 public class BeesTooltipComponent extends EntityTooltipComponent<InspecioConfig.BeeEntityConfig> {
 	private static final Identifier HONEY_LEVEL_TEXTURE = new Identifier(Inspecio.NAMESPACE, "textures/tooltips/honey_level.png");
-
-	private final List<Bee> bees = new ArrayList<>();
+	/**
+	 * The decoded bees by the content of the bees NBT list of their hive.
+	 * <p>
+	 * The bee entities are shared by every tooltip of a hive with the same bees, so they must not be mutated
+	 * besides the position, angles and age which are set before each draw.
+	 */
+	private static final LruCache<NbtFingerprint, List<Bee>> BEES_CACHE = LruCache.create("bees", 32);
+
+	private final List<Bee> bees;
 	private final int honeyLevel;
 
 	public BeesTooltipComponent(InspecioConfig.BeeEntityConfig config, int honeyLevel, NbtList bees) {
 		super(config);
 		this.honeyLevel = honeyLevel;
+		this.bees = this.getBees(bees);
+	}
+
+	private List<Bee> getBees(NbtList bees) {
+		if (bees.isEmpty() || this.client.world == null)
+			return List.of();
+
+		var key = NbtFingerprint.of(bees);
+		var cached = BEES_CACHE.get(key);
+
+		// Cached bees are bound to the world they were loaded in.
+		if (cached != null && (cached.isEmpty() || cached.get(0).bee().getWorld() == this.client.world))
+			return cached;
+
+		var decoded = decodeBees(bees, this.client.world);
+		BEES_CACHE.put(key.detach(), decoded);
+		return decoded;
+	}
+
+	private static List<Bee> decodeBees(NbtList bees, World world) {
+		var data = readBees(bees);
+		var decoded = new ArrayList<Bee>(data.size());
+
+		for (var bee : data) {
+			var entity = EntityType.loadEntityWithPassengers(bee.entityNbt(), world, Function.identity());
+			if (entity != null) {
+				decoded.add(new Bee(bee.ticksInHive(), entity));
+			}
+		}
+
+		return List.copyOf(decoded);
+	}
 
-		bees.stream().map(nbt -> (NbtCompound) nbt).forEach(nbt -> {
-			var bee = nbt.getCompound("EntityData");
+	/**
+	 * Reads the data of the bees of a beehive, without loading their entities.
+	 * <p>
+	 * The given NBT is left untouched, the returned entity NBT are stripped copies which can be loaded in any world.
+	 *
+	 * @param bees the bees NBT list of the beehive block entity
+	 * @return the data of the bees
+	 */
+	public static List<BeeData> readBees(NbtList bees) {
+		var data = new ArrayList<BeeData>(bees.size());
+
+		for (int i = 0; i < bees.size(); i++) {
+			var nbt = bees.getCompound(i);
+			// Work on a copy as the source NBT belongs to the item stack.
+			var bee = nbt.getCompound("EntityData").copy();
 			bee.remove("UUID");
 			bee.remove("Passengers");
 			bee.remove("Leash");
-			var entity = EntityType.loadEntityWithPassengers(bee, this.client.world, Function.identity());
-			if (entity != null) {
-				this.bees.add(new Bee(nbt.getInt("TicksInHive"), entity));
-			}
-		});
+			data.add(new BeeData(nbt.getInt("TicksInHive"), bee));
+		}
+
+		return data;
+	}
+
+	/**
+	 * Clears the cache of decoded bees.
+	 */
+	public static void clearCache() {
+		BEES_CACHE.clear();
 	}
 
 	public static Optional<TooltipData> of(ItemStack stack) {
-		var config = Inspecio.getConfig().getEntitiesConfig().getBeeConfig();
+		var config = Inspecio.getSnapshot().getBeeConfig();
 		if (!config.isEnabled() && !config.shouldShowHoney())
 			return Optional.empty();
 
 		int honeyLevel = 0;
 
-		var stateNbt = stack.getSubNbt(BlockItem.BLOCK_STATE_TAG_KEY);
+		var stateNbt = InspectionContext.of(stack).getBlockStateNbt();
 		if (stateNbt != null) {
 			NbtElement honeyLevelNbt = stateNbt.get(BeehiveBlock.HONEY_LEVEL.getName());
 
@@ -89,7 +150,7 @@ public class BeesTooltipComponent extends EntityTooltipComponent<InspecioConfig.
 			}
 		}
 
-		var nbt = BlockItem.getBlockEntityNbtFromStack(stack);
+		var nbt = InspectionContext.of(stack).getBlockEntityNbt();
 		if ((nbt == null || !nbt.contains(BeehiveBlockEntity.BEES_KEY, NbtElement.LIST_TYPE)) && !config.shouldShowHoney())
 			return Optional.empty();
 
@@ -123,11 +184,13 @@ public class BeesTooltipComponent extends EntityTooltipComponent<InspecioConfig.
 			matrices.translate(2, 4, 0);
 
 			int xOffset = x;
+			int yOffset = y + (this.shouldRenderCustomNames() ? 8 : 0);
+			this.beginEntityBatch();
 			for (var bee : this.bees) {
-				this.renderEntity(matrices, xOffset, y + (this.shouldRenderCustomNames() ? 8 : 0), bee.bee(), bee.ticksInHive(),
-						this.config.shouldSpin(), true);
+				this.renderEntity(matrices, xOffset, yOffset, bee.bee(), bee.ticksInHive(), this.config.shouldSpin(), true);
 				xOffset += 26;
 			}
+			this.endEntityBatch();
 		}
 
 		if (config.shouldShowHoney()) {
@@ -155,6 +218,15 @@ public class BeesTooltipComponent extends EntityTooltipComponent<InspecioConfig.
 				&& (this.config.shouldAlwaysShowName() || Screen.hasControlDown());
 	}
 
+	/**
+	 * Represents the data of a bee read from a beehive.
+	 *
+	 * @param ticksInHive the amount of ticks the bee spent in the hive
+	 * @param entityNbt the entity NBT of the bee
+	 */
+	public record BeeData(int ticksInHive, NbtCompound entityNbt) {
+	}
+
 	record Bee(int ticksInHive, Entity bee) {
 	}
 }
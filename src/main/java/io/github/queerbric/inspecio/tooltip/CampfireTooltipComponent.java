@@ -17,14 +17,14 @@
 
 package io.github.queerbric.inspecio.tooltip;
 
-import com.mojang.blaze3d.systems.RenderSystem;
-import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.ConfigSnapshot;
+import io.github.queerbric.inspecio.TooltipStats;
+import io.github.queerbric.inspecio.api.InspectionContext;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.tooltip.TooltipComponent;
 import net.minecraft.client.item.TooltipData;
-import net.minecraft.item.BlockItem;
 import net.minecraft.item.ItemStack;
 import net.minecraft.registry.Registries;
 import net.minecraft.util.Identifier;
@@ -37,7 +37,7 @@ import java.util.Optional;
  * Represents a campfire tooltip. Displays a campfire inventory and the flame if lit.
  *
  * @author LambdAurora
- * @version 1.8.0
+ * @version 1.9.0
  * @since 1.1.0
  */
 public class CampfireTooltipComponent implements ConvertibleTooltipData, TooltipComponent {
@@ -52,14 +52,11 @@ public class CampfireTooltipComponent implements ConvertibleTooltipData, Tooltip
 	}
 
 	public static Optional<TooltipData> of(ItemStack stack) {
-		if (!Inspecio.getConfig().getContainersConfig().isCampfireEnabled())
+		var inspection = InspectionContext.of(stack);
+		if (!inspection.getConfig().has(ConfigSnapshot.Flag.CAMPFIRE))
 			return Optional.empty();
 
-		var nbt = BlockItem.getBlockEntityNbtFromStack(stack);
-		if (nbt == null)
-			return Optional.empty();
-
-		var inventory = Inspecio.readInventory(nbt, 4);
+		var inventory = inspection.getInventory(4);
 
 		if (inventory == null)
 			return Optional.empty();
@@ -67,7 +64,7 @@ public class CampfireTooltipComponent implements ConvertibleTooltipData, Tooltip
 		var itemId = Registries.ITEM.getId(stack.getItem());
 		var fireId = new Identifier(itemId.getNamespace(), "block/" + itemId.getPath() + "_fire");
 
-		var stateNbt = stack.getSubNbt(BlockItem.BLOCK_STATE_TAG_KEY);
+		var stateNbt = inspection.getBlockStateNbt();
 		if (stateNbt != null && stateNbt.contains("lit")) {
 			if (stateNbt.get("lit").asString().equals("false"))
 				fireId = null;
@@ -78,7 +75,7 @@ public class CampfireTooltipComponent implements ConvertibleTooltipData, Tooltip
 
 	@Override
 	public TooltipComponent toComponent() {
-		return this;
+		return TooltipStats.wrap(this);
 	}
 
 	@Override
@@ -95,13 +92,10 @@ public class CampfireTooltipComponent implements ConvertibleTooltipData, Tooltip
 	public void drawItems(TextRenderer textRenderer, int xOffset, int yOffset, GuiGraphics graphics) {
 		int x = 1 + 18 * 2;
 		int y = 1 + 18 * 2;
+		var batch = new SlotBatch(graphics);
 
 		for (int i = 0; i < this.inventory.size(); i++) {
-			var stack = this.inventory.get(i);
-
-			InventoryTooltipComponent.drawSlot(graphics, x + xOffset - 1, y + yOffset - 1, 0, null);
-			graphics.drawItem(stack, xOffset + x, yOffset + y);
-			graphics.drawItemInSlot(textRenderer, stack, xOffset + x, yOffset + y);
+			batch.add(this.inventory.get(i), xOffset + x, yOffset + y, null);
 
 			if (i == 1)
 				y -= 18 * 2;
@@ -111,8 +105,10 @@ public class CampfireTooltipComponent implements ConvertibleTooltipData, Tooltip
 				x += 18 * 2;
 		}
 
+		batch.draw(textRenderer);
+
 		if (this.fireTexture != null) {
-			RenderSystem.setShaderColor(1.f, 1.f, 1.f, 1.f);
+			DrawBackend.get().setShaderColor(1.f, 1.f, 1.f, 1.f);
 
 			var sprite = MinecraftClient.getInstance().getSpriteAtlas(ATLAS_TEXTURE).apply(this.fireTexture);
 			if (sprite != null)
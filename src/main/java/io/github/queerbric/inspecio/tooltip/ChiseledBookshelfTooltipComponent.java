@@ -19,6 +19,8 @@ package io.github.queerbric.inspecio.tooltip;
 
 import com.mojang.blaze3d.lighting.DiffuseLighting;
 import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.TooltipStats;
+import io.github.queerbric.inspecio.api.InspectionContext;
 import io.github.queerbric.inspecio.api.InventoryProvider;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -31,7 +33,6 @@ import net.minecraft.client.item.TooltipData;
 import net.minecraft.client.render.LightmapTextureManager;
 import net.minecraft.client.render.OverlayTexture;
 import net.minecraft.client.util.math.MatrixStack;
-import net.minecraft.item.BlockItem;
 import net.minecraft.item.ItemStack;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 import org.quiltmc.qsl.tooltip.api.ConvertibleTooltipData;
@@ -40,50 +41,111 @@ import java.util.Optional;
 
 /**
  * Represents the chiseled bookshelf tooltip component.
+ * <p>
+ * A chiseled bookshelf only has 64 slot occupancy states, the block state and the recorded block model of each state
+ * are resolved once and looked up by the occupancy mask, until resources are reloaded.
  *
  * @author LambdAurora
- * @version 1.8.0
+ * @version 1.9.0
  * @since 1.7.0
  */
 @ClientOnly
 public class ChiseledBookshelfTooltipComponent implements ConvertibleTooltipData, TooltipComponent {
 	private static final MinecraftClient CLIENT = MinecraftClient.getInstance();
-	private final BlockState state;
+	private static final int SLOTS = ChiseledBookshelfBlock.SLOT_OCCUPATION_PROPERTIES.size();
+	private static final BlockState[] STATES = new BlockState[1 << SLOTS];
+	private static final RecordedMesh[] MESHES = new RecordedMesh[1 << SLOTS];
+	private final int occupancy;
+
+	private ChiseledBookshelfTooltipComponent(int occupancy) {
+		this.occupancy = occupancy;
+	}
 
 	public ChiseledBookshelfTooltipComponent(BlockState state) {
-		this.state = state;
+		this(getOccupancy(state));
 	}
 
 	public static Optional<TooltipData> of(ItemStack stack) {
-		var config = Inspecio.getConfig().getContainersConfig().getChiseledBookshelfConfig();
+		var config = Inspecio.getSnapshot().getChiseledBookshelfConfig();
 		if (!config.isEnabled()) {
 			return Optional.empty();
 		}
 
-		var nbt = BlockItem.getBlockEntityNbtFromStack(stack);
-		if (nbt == null)
-			return Optional.empty();
-
-		var inventory = Inspecio.readInventory(nbt, 6);
+		var inventory = InspectionContext.of(stack).getInventory(SLOTS);
 
 		if (inventory == null)
 			return Optional.empty();
 
 		if (!config.hasBlockRender()) {
-			return InventoryTooltipComponent.of(stack, config.isCompact(), new InventoryProvider.Context(inventory, 3));
+			return InventoryTooltipComponent.of(stack, config.isCompact(), config.getMaxRows(), new InventoryProvider.Context(inventory, 3));
+		}
+
+		int occupancy = 0;
+		for (int slot = 0; slot < SLOTS; slot++) {
+			if (!inventory.get(slot).isEmpty())
+				occupancy |= 1 << slot;
+		}
+
+		return Optional.of(new ChiseledBookshelfTooltipComponent(occupancy));
+	}
+
+	/**
+	 * Clears the recorded block models, this is done when resources are reloaded.
+	 */
+	public static void clearCache() {
+		for (int i = 0; i < MESHES.length; i++) {
+			if (MESHES[i] != null) {
+				MESHES[i].close();
+				MESHES[i] = null;
+			}
 		}
+	}
+
+	private static int getOccupancy(BlockState state) {
+		int occupancy = 0;
+		for (int slot = 0; slot < SLOTS; slot++) {
+			if (state.get(ChiseledBookshelfBlock.SLOT_OCCUPATION_PROPERTIES.get(slot)))
+				occupancy |= 1 << slot;
+		}
+		return occupancy;
+	}
+
+	private static BlockState getState(int occupancy) {
+		var state = STATES[occupancy];
+
+		if (state == null) {
+			state = Blocks.CHISELED_BOOKSHELF.getDefaultState();
+			for (int slot = 0; slot < SLOTS; slot++) {
+				state = state.with(ChiseledBookshelfBlock.SLOT_OCCUPATION_PROPERTIES.get(slot), (occupancy & (1 << slot)) != 0);
+			}
+			STATES[occupancy] = state;
+		}
+
+		return state;
+	}
 
-		var state = Blocks.CHISELED_BOOKSHELF.getDefaultState();
-		for (int slot = 0; slot < ChiseledBookshelfBlock.SLOT_OCCUPATION_PROPERTIES.size(); slot++) {
-			state = state.with(ChiseledBookshelfBlock.SLOT_OCCUPATION_PROPERTIES.get(slot), !inventory.get(slot).isEmpty());
+	private static RecordedMesh getMesh(int occupancy) {
+		var mesh = MESHES[occupancy];
+
+		if (mesh == null) {
+			var state = getState(occupancy);
+			// The whole local transform is recorded, as the normals are not transformed when the mesh is drawn.
+			var matrices = new MatrixStack();
+			matrices.scale(-1, -1, 1);
+			matrices.translate(-20, -20, 0);
+			matrices.scale(20, 20, 1);
+			mesh = RecordedMesh.record(vertices -> CLIENT.getBlockRenderManager().renderBlockAsEntity(state, matrices, vertices,
+					LightmapTextureManager.MAX_LIGHT_COORDINATE, OverlayTexture.DEFAULT_UV
+			));
+			MESHES[occupancy] = mesh;
 		}
 
-		return Optional.of(new ChiseledBookshelfTooltipComponent(state));
+		return mesh;
 	}
 
 	@Override
 	public TooltipComponent toComponent() {
-		return this;
+		return TooltipStats.wrap(this);
 	}
 
 	@Override
@@ -100,15 +162,10 @@ public class ChiseledBookshelfTooltipComponent implements ConvertibleTooltipData
 	public void drawItems(TextRenderer textRenderer, int x, int y, GuiGraphics graphics) {
 		DiffuseLighting.setupInventoryEntityLighting();
 		MatrixStack matrices = graphics.getMatrices();
+		matrices.push();
 		matrices.translate(x, y, 0);
-		matrices.scale(-1, -1, 1);
-		matrices.translate(-20, -20, 0);
-		matrices.scale(20, 20, 1);
-		var vertexConsumer = CLIENT.getBufferBuilders().getEntityVertexConsumers();
-		CLIENT.getBlockRenderManager().renderBlockAsEntity(this.state, matrices, vertexConsumer,
-				LightmapTextureManager.MAX_LIGHT_COORDINATE, OverlayTexture.DEFAULT_UV
-		);
-		vertexConsumer.draw();
+		getMesh(this.occupancy).draw(matrices);
+		matrices.pop();
 		DiffuseLighting.setup3DGuiLighting();
 	}
 }
@@ -18,64 +18,108 @@
 package io.github.queerbric.inspecio.tooltip;
 
 import com.google.common.collect.Lists;
+import io.github.queerbric.inspecio.TooltipStats;
+import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.tooltip.TooltipComponent;
 import net.minecraft.client.render.VertexConsumerProvider.Immediate;
-import net.minecraft.client.render.item.ItemRenderer;
-import net.minecraft.client.util.math.MatrixStack;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
 import org.quiltmc.qsl.tooltip.api.ConvertibleTooltipData;
 
 import java.util.List;
 
+/**
+ * Represents a tooltip component made of several components stacked vertically.
+ * <p>
+ * The size of every component is measured once and the layout is reused across frames,
+ * it is only measured again when a component is added, when the text renderer changes, or when the layouts are {@linkplain #invalidateLayouts() invalidated}.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.0.0
+ */
 public class CompoundTooltipComponent implements TooltipComponent, ConvertibleTooltipData {
+	private static int layoutGeneration = 0;
 	private final List<TooltipComponent> components = Lists.newArrayList();
+	private int[] heights = new int[0];
+	private int width;
+	private int height;
+	private @Nullable TextRenderer measuredWith;
+	private int measuredGeneration = -1;
 
 	public void addComponent(TooltipComponent component) {
 		components.add(component);
+		this.measuredWith = null;
+	}
+
+	/**
+	 * Invalidates the layout of every compound tooltip component.
+	 * <p>
+	 * This must be called when the size of components may have changed without their data changing,
+	 * for example when a modifier key which reveals more information is pressed or released.
+	 */
+	public static void invalidateLayouts() {
+		layoutGeneration++;
 	}
 
 	@Override
 	public TooltipComponent toComponent() {
-		return this;
+		return TooltipStats.wrap(this);
+	}
+
+	private void measure(TextRenderer textRenderer) {
+		if (this.measuredWith == textRenderer && this.measuredGeneration == layoutGeneration)
+			return;
+
+		this.heights = new int[this.components.size()];
+		this.width = 0;
+		this.height = 0;
+
+		for (int i = 0; i < this.heights.length; i++) {
+			var comp = this.components.get(i);
+			this.heights[i] = comp.getHeight();
+			this.height += this.heights[i];
+			this.width = Math.max(this.width, comp.getWidth(textRenderer));
+		}
+
+		this.measuredWith = textRenderer;
+		this.measuredGeneration = layoutGeneration;
 	}
 
 	@Override
 	public int getHeight() {
-		int height = 0;
-		for (var comp : components) {
-			height += comp.getHeight();
-		}
-		return height;
+		// The width is usually measured first, which gives us the text renderer to use.
+		this.measure(this.measuredWith != null ? this.measuredWith : MinecraftClient.getInstance().textRenderer);
+		return this.height;
 	}
 
 	@Override
 	public int getWidth(TextRenderer textRenderer) {
-		int width = 0;
-		for (var comp : components) {
-			if (comp.getWidth(textRenderer) > width) {
-				width = comp.getWidth(textRenderer);
-			}
-		}
-		return width;
+		this.measure(textRenderer);
+		return this.width;
 	}
 
 	@Override
 	public void drawItems(TextRenderer textRenderer, int x, int y, GuiGraphics graphics) {
+		this.measure(textRenderer);
+
 		int yOff = 0;
-		for (var comp : components) {
-			comp.drawItems(textRenderer, x, y + yOff, graphics);
-			yOff += comp.getHeight();
+		for (int i = 0; i < this.heights.length; i++) {
+			this.components.get(i).drawItems(textRenderer, x, y + yOff, graphics);
+			yOff += this.heights[i];
 		}
 	}
 
 	@Override
 	public void drawText(TextRenderer textRenderer, int x, int y, Matrix4f matrix4f, Immediate immediate) {
+		this.measure(textRenderer);
+
 		int yOff = 0;
-		for (var comp : components) {
-			comp.drawText(textRenderer, x, y + yOff, matrix4f, immediate);
-			yOff += comp.getHeight();
+		for (int i = 0; i < this.heights.length; i++) {
+			this.components.get(i).drawText(textRenderer, x, y + yOff, matrix4f, immediate);
+			yOff += this.heights[i];
 		}
 	}
 }
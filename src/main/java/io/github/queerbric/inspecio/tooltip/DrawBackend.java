@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.tooltip;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferRenderer;
+import com.mojang.blaze3d.vertex.Tessellator;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.mojang.blaze3d.vertex.VertexFormats;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.Objects;
+
+/**
+ * Represents the backend through which the batched tooltip primitives, such as {@link IconStrip} and {@link SlotBatch}, issue their draw calls.
+ * <p>
+ * The default backend draws with the game renderer, another backend may be used to record the draw calls without a GPU.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public abstract class DrawBackend {
+	private static final DrawBackend RENDER_SYSTEM = new RenderSystemBackend();
+	private static volatile DrawBackend current = RENDER_SYSTEM;
+
+	/**
+	 * {@return the current draw backend}
+	 */
+	public static DrawBackend get() {
+		return current;
+	}
+
+	/**
+	 * Replaces the current draw backend, this is meant for headless render tests.
+	 *
+	 * @param backend the new draw backend, or {@code null} to restore the default backend
+	 * @return the previous draw backend
+	 */
+	@ApiStatus.Internal
+	public static DrawBackend use(@Nullable DrawBackend backend) {
+		var previous = current;
+		current = backend == null ? RENDER_SYSTEM : backend;
+		return previous;
+	}
+
+	/**
+	 * Begins a batch of tinted textured quads, which is drawn with a single draw call once ended.
+	 *
+	 * @param texture the texture of the quads
+	 * @return the quad batch
+	 */
+	public abstract QuadBatch beginQuads(Identifier texture);
+
+	/**
+	 * Sets the color by which the shaders multiply the drawn colors.
+	 *
+	 * @param red the red component
+	 * @param green the green component
+	 * @param blue the blue component
+	 * @param alpha the alpha component
+	 */
+	public abstract void setShaderColor(float red, float green, float blue, float alpha);
+
+	/**
+	 * Represents a batch of tinted textured quads.
+	 */
+	public interface QuadBatch {
+		/**
+		 * Adds an axis-aligned quad to this batch.
+		 *
+		 * @param model the model matrix
+		 * @param minX the minimum X coordinate
+		 * @param minY the minimum Y coordinate
+		 * @param maxX the maximum X coordinate
+		 * @param maxY the maximum Y coordinate
+		 * @param z the Z coordinate
+		 * @param minU the minimum U coordinate
+		 * @param minV the minimum V coordinate
+		 * @param maxU the maximum U coordinate
+		 * @param maxV the maximum V coordinate
+		 * @param color the tint of the quad as ARGB
+		 */
+		void quad(Matrix4f model, float minX, float minY, float maxX, float maxY, float z,
+				float minU, float minV, float maxU, float maxV, int color);
+
+		/**
+		 * Ends this batch and draws its quads.
+		 */
+		void end();
+	}
+
+	private static final class RenderSystemBackend extends DrawBackend {
+		@Override
+		public QuadBatch beginQuads(Identifier texture) {
+			Objects.requireNonNull(texture, "texture");
+			RenderSystem.setShader(GameRenderer::getPositionColorTexShader);
+			RenderSystem.setShaderTexture(0, texture);
+
+			var buffer = Tessellator.getInstance().getBufferBuilder();
+			buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR_TEXTURE);
+			return new BufferQuadBatch(buffer);
+		}
+
+		@Override
+		public void setShaderColor(float red, float green, float blue, float alpha) {
+			RenderSystem.setShaderColor(red, green, blue, alpha);
+		}
+	}
+
+	private record BufferQuadBatch(BufferBuilder buffer) implements QuadBatch {
+		@Override
+		public void quad(Matrix4f model, float minX, float minY, float maxX, float maxY, float z,
+				float minU, float minV, float maxU, float maxV, int color) {
+			this.buffer.vertex(model, minX, minY, z).color(color).uv(minU, minV).next();
+			this.buffer.vertex(model, minX, maxY, z).color(color).uv(minU, maxV).next();
+			this.buffer.vertex(model, maxX, maxY, z).color(color).uv(maxU, maxV).next();
+			this.buffer.vertex(model, maxX, minY, z).color(color).uv(maxU, minV).next();
+		}
+
+		@Override
+		public void end() {
+			BufferRenderer.drawWithShader(this.buffer.end());
+		}
+	}
+}
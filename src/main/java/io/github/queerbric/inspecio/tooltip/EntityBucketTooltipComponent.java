@@ -47,16 +47,16 @@ public class EntityBucketTooltipComponent extends EntityTooltipComponent<Inspeci
 	}
 
 	public static Optional<TooltipData> of(EntityType<?> type, NbtCompound itemNbt) {
-		var entitiesConfig = Inspecio.getConfig().getEntitiesConfig();
-		if (!entitiesConfig.getFishBucketConfig().isEnabled())
+		var config = Inspecio.getSnapshot();
+		if (!config.getFishBucketConfig().isEnabled())
 			return Optional.empty();
 
 		var client = MinecraftClient.getInstance();
 		var entity = type.create(client.world);
 		if (entity != null) {
 			EntityType.loadFromEntityNbt(client.world, null, entity, itemNbt);
-			adjustEntity(entity, itemNbt, entitiesConfig);
-			return Optional.of(new EntityBucketTooltipComponent(entitiesConfig.getFishBucketConfig(), entity));
+			adjustEntity(entity, itemNbt, config);
+			return Optional.of(new EntityBucketTooltipComponent(config.getFishBucketConfig(), entity));
 		}
 		return Optional.empty();
 	}
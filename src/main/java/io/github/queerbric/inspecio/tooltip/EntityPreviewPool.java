@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.tooltip;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.nbt.NbtCompound;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Represents a pool of render-only entities used in entity previews, one entity per entity type.
+ * <p>
+ * A pooled entity is reused as long as it is acquired with the same source NBT and settings as the ones it was created with.
+ * Entities do not reset the state which is absent from the NBT they read, such as their custom name,
+ * so a new entity is created whenever the source or the settings change.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public final class EntityPreviewPool {
+	private static final Map<EntityType<?>, Entry> ENTRIES = new Reference2ObjectOpenHashMap<>();
+
+	private EntityPreviewPool() {
+		throw new UnsupportedOperationException("EntityPreviewPool only contains static definitions.");
+	}
+
+	/**
+	 * Acquires the pooled entity described by the given handle.
+	 *
+	 * @param handle the handle describing the entity
+	 * @return the pooled entity initialized with the source of the handle, or {@code null} if the entity could not be created
+	 */
+	public static @Nullable Entity acquire(Handle handle) {
+		var world = MinecraftClient.getInstance().world;
+		if (world == null)
+			return null;
+
+		var entry = ENTRIES.get(handle.type());
+
+		if (entry != null && entry.entity.getWorld() == world && entry.matches(handle)) {
+			// Keep the latest source so the next acquisition with the same handle is an identity check.
+			entry.source = handle.source();
+			return entry.entity;
+		}
+
+		var entity = handle.type().create(world);
+		if (entity == null)
+			return null;
+
+		handle.initializer().accept(entity, entity.writeNbt(new NbtCompound()));
+		ENTRIES.put(handle.type(), new Entry(entity, handle.source(), handle.settings()));
+		return entity;
+	}
+
+	/**
+	 * Clears the pool, this is done when the world changes to avoid leaking the previous world.
+	 */
+	public static void clear() {
+		ENTRIES.clear();
+	}
+
+	/**
+	 * Represents a handle to a pooled entity.
+	 *
+	 * @param type the entity type
+	 * @param source the NBT from which the entity is initialized, must not be modified once the handle is created
+	 * @param settings the configuration values read by the initializer, compared by equality, or {@code null} if there are none
+	 * @param initializer the initializer of the entity, which accepts the new entity and its default NBT
+	 */
+	public record Handle(EntityType<?> type, NbtCompound source, @Nullable Object settings, BiConsumer<Entity, NbtCompound> initializer) {
+		public @Nullable Entity acquire() {
+			return EntityPreviewPool.acquire(this);
+		}
+	}
+
+	private static final class Entry {
+		private final Entity entity;
+		private final @Nullable Object settings;
+		private NbtCompound source;
+
+		private Entry(Entity entity, NbtCompound source, @Nullable Object settings) {
+			this.entity = entity;
+			this.source = source;
+			this.settings = settings;
+		}
+
+		private boolean matches(Handle handle) {
+			return (this.source == handle.source() || this.source.equals(handle.source()))
+					&& Objects.equals(this.settings, handle.settings());
+		}
+	}
+}
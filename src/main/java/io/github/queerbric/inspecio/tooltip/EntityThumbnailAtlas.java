@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.tooltip;
+
+import com.mojang.blaze3d.framebuffer.SimpleFramebuffer;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferRenderer;
+import com.mojang.blaze3d.vertex.Tessellator;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.mojang.blaze3d.vertex.VertexFormats;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.nbt.NbtCompound;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.opengl.GL11;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Represents an offscreen atlas of entity thumbnails, used to draw non-spinning entity previews without rendering the entity every frame.
+ * <p>
+ * Each distinct preview is rendered once into a cell of a framebuffer, then the cell is drawn as a textured quad.
+ * Cells are recycled in least-recently-used order once the atlas is full.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public final class EntityThumbnailAtlas {
+	/**
+	 * The width of a cell in GUI units.
+	 */
+	public static final int CELL_WIDTH = 36;
+	/**
+	 * The horizontal offset in GUI units at which an entity preview is rendered in its cell.
+	 */
+	public static final int ORIGIN_X = 6;
+	/**
+	 * The vertical offset in GUI units at which an entity preview is rendered in its cell,
+	 * it leaves room for the entities which are rendered above the given Y coordinate.
+	 */
+	public static final int ORIGIN_Y = 16;
+	/**
+	 * The height of a cell in GUI units, it leaves room for the entities whose feet are rendered the lowest.
+	 */
+	public static final int CELL_HEIGHT = ORIGIN_Y + EntityTooltipComponent.MAX_Y_OFFSET + 4;
+	private static final String[] VOLATILE_KEYS = {
+			"Pos", "Motion", "Rotation", "UUID", "FallDistance", "Fire", "Air", "OnGround", "PortalCooldown"
+	};
+	private static @Nullable EntityThumbnailAtlas instance;
+
+	private final MinecraftClient client = MinecraftClient.getInstance();
+	private final SimpleFramebuffer framebuffer;
+	private final int size;
+	private final double scaleFactor;
+	private final int cellPixelWidth;
+	private final int cellPixelHeight;
+	private final int columns;
+	private final int capacity;
+	private final Map<Key, Integer> cells = new LinkedHashMap<>(16, 0.75f, true);
+
+	private EntityThumbnailAtlas(int size, double scaleFactor) {
+		this.size = size;
+		this.scaleFactor = scaleFactor;
+		this.cellPixelWidth = (int) Math.ceil(CELL_WIDTH * scaleFactor);
+		this.cellPixelHeight = (int) Math.ceil(CELL_HEIGHT * scaleFactor);
+		this.columns = size / this.cellPixelWidth;
+		this.capacity = this.columns * (size / this.cellPixelHeight);
+		this.framebuffer = new SimpleFramebuffer(size, size, true, MinecraftClient.IS_SYSTEM_MAC);
+		this.framebuffer.setClearColor(0.f, 0.f, 0.f, 0.f);
+	}
+
+	/**
+	 * Draws the thumbnail of an entity preview, the preview is rendered into the atlas if it is not present yet.
+	 *
+	 * @param matrices the matrices
+	 * @param x the X coordinate at which the entity would have been rendered
+	 * @param y the Y coordinate at which the entity would have been rendered
+	 * @param key the key of the preview
+	 * @param atlasSize the size in pixels of the atlas
+	 * @param renderer the renderer of the preview, which renders the entity at {@link #ORIGIN_X}, {@link #ORIGIN_Y} using the given matrices
+	 * @return {@code true} if the thumbnail has been drawn, or {@code false} if the atlas cannot hold the preview
+	 */
+	public static boolean draw(MatrixStack matrices, int x, int y, Key key, int atlasSize, Consumer<MatrixStack> renderer) {
+		double scaleFactor = MinecraftClient.getInstance().getWindow().getScaleFactor();
+
+		if (instance == null || instance.size != atlasSize || instance.scaleFactor != scaleFactor) {
+			clear();
+			instance = new EntityThumbnailAtlas(atlasSize, scaleFactor);
+		}
+
+		if (instance.capacity == 0)
+			return false;
+
+		int cell = instance.getCell(key, renderer);
+		instance.drawCell(matrices, x - ORIGIN_X, y - ORIGIN_Y, cell);
+		return true;
+	}
+
+	/**
+	 * Clears the atlas and releases its framebuffer.
+	 */
+	public static void clear() {
+		if (instance != null) {
+			instance.framebuffer.delete();
+			instance = null;
+		}
+	}
+
+	/**
+	 * Captures the state of the given entity which is relevant to its rendering.
+	 *
+	 * @param entity the entity
+	 * @return the state
+	 */
+	public static State stateOf(Entity entity) {
+		var nbt = entity.writeNbt(new NbtCompound());
+
+		for (var key : VOLATILE_KEYS) {
+			nbt.remove(key);
+		}
+
+		return new State(nbt, nbt.hashCode());
+	}
+
+	private int getCell(Key key, Consumer<MatrixStack> renderer) {
+		var cell = this.cells.get(key);
+		if (cell != null)
+			return cell;
+
+		if (this.cells.size() < this.capacity) {
+			cell = this.cells.size();
+		} else {
+			// Recycle the cell of the least recently used thumbnail.
+			var eldest = this.cells.entrySet().iterator().next();
+			cell = eldest.getValue();
+			this.cells.remove(eldest.getKey());
+		}
+
+		this.renderCell(cell, renderer);
+		this.cells.put(key, cell);
+		return cell;
+	}
+
+	private int getCellX(int cell) {
+		return (cell % this.columns) * this.cellPixelWidth;
+	}
+
+	private int getCellY(int cell) {
+		return (cell / this.columns) * this.cellPixelHeight;
+	}
+
+	private void renderCell(int cell, Consumer<MatrixStack> renderer) {
+		int cellX = this.getCellX(cell);
+		int cellY = this.getCellY(cell);
+		var window = this.client.getWindow();
+
+		// Flush what has been drawn so far as it targets the main framebuffer.
+		this.client.getBufferBuilders().getEntityVertexConsumers().draw();
+
+		this.framebuffer.beginWrite(false);
+		RenderSystem.enableScissor(cellX, cellY, this.cellPixelWidth, this.cellPixelHeight);
+		RenderSystem.clearColor(0.f, 0.f, 0.f, 0.f);
+		RenderSystem.clear(GL11.GL_COLOR_BUFFER_BIT | GL11.GL_DEPTH_BUFFER_BIT, MinecraftClient.IS_SYSTEM_MAC);
+
+		// The GUI projection is kept, the viewport is moved so the top-left corner of the screen lands on the top-left corner of the cell.
+		RenderSystem.viewport(cellX, cellY + this.cellPixelHeight - window.getFramebufferHeight(),
+				window.getFramebufferWidth(), window.getFramebufferHeight());
+		renderer.accept(new MatrixStack());
+
+		RenderSystem.disableScissor();
+		this.client.getFramebuffer().beginWrite(true);
+	}
+
+	private void drawCell(MatrixStack matrices, int x, int y, int cell) {
+		float minU = this.getCellX(cell) / (float) this.size;
+		float maxU = (this.getCellX(cell) + this.cellPixelWidth) / (float) this.size;
+		// Framebuffer textures are stored bottom-up.
+		float minV = (this.getCellY(cell) + this.cellPixelHeight) / (float) this.size;
+		float maxV = this.getCellY(cell) / (float) this.size;
+		var model = matrices.peek().getModel();
+
+		RenderSystem.setShader(GameRenderer::getPositionTexShader);
+		RenderSystem.setShaderTexture(0, this.framebuffer.getColorAttachment());
+		RenderSystem.enableBlend();
+		RenderSystem.defaultBlendFunc();
+
+		var buffer = Tessellator.getInstance().getBufferBuilder();
+		buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_TEXTURE);
+		buffer.vertex(model, x, y, 0).uv(minU, minV).next();
+		buffer.vertex(model, x, y + CELL_HEIGHT, 0).uv(minU, maxV).next();
+		buffer.vertex(model, x + CELL_WIDTH, y + CELL_HEIGHT, 0).uv(maxU, maxV).next();
+		buffer.vertex(model, x + CELL_WIDTH, y, 0).uv(maxU, minV).next();
+		BufferRenderer.drawWithShader(buffer.end());
+
+		RenderSystem.disableBlend();
+	}
+
+	/**
+	 * Represents the key of an entity thumbnail.
+	 *
+	 * @param type the entity type
+	 * @param state the state of the entity
+	 * @param yaw the yaw of the entity
+	 */
+	public record Key(EntityType<?> type, State state, float yaw) {
+	}
+
+	/**
+	 * Represents the state of an entity which is relevant to its rendering.
+	 *
+	 * @param nbt the NBT of the entity without its volatile keys, must not be modified
+	 * @param hash the structural hash of the NBT
+	 */
+	public record State(NbtCompound nbt, int hash) {
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof State state)) return false;
+			return this.hash == state.hash && this.nbt.equals(state.nbt);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+}
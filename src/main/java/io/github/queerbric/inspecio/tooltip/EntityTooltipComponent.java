@@ -18,8 +18,13 @@
 package io.github.queerbric.inspecio.tooltip;
 
 import com.mojang.blaze3d.lighting.DiffuseLighting;
+import io.github.queerbric.inspecio.ConfigSnapshot;
+import io.github.queerbric.inspecio.Inspecio;
 import io.github.queerbric.inspecio.InspecioConfig;
+import io.github.queerbric.inspecio.TooltipStats;
 import io.github.queerbric.inspecio.mixin.*;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.screen.Screen;
@@ -42,14 +47,30 @@ import org.quiltmc.qsl.tooltip.api.ConvertibleTooltipData;
 
 /**
  * Represents a tooltip component for entities.
+ * <p>
+ * Components which display several entities should render them in a {@linkplain #beginEntityBatch() batch},
+ * so the render state is set up once and the entities are flushed together.
  *
  * @author LambdAurora
- * @version 1.6.0
+ * @version 1.9.0
  * @since 1.0.0
  */
 public abstract class EntityTooltipComponent<C extends InspecioConfig.EntityConfig> implements ConvertibleTooltipData, TooltipComponent {
+	/**
+	 * The vertical offset at which the feet of most entities are rendered, relative to the given Y coordinate.
+	 */
+	static final int DEFAULT_Y_OFFSET = 16;
+	static final int SQUID_Y_OFFSET = 2;
+	static final int ITEM_Y_OFFSET = 28;
+	/**
+	 * The lowest vertical offset at which the feet of an entity may be rendered, relative to the given Y coordinate.
+	 */
+	static final int MAX_Y_OFFSET = Math.max(DEFAULT_Y_OFFSET, Math.max(SQUID_Y_OFFSET, ITEM_Y_OFFSET));
+
 	protected final MinecraftClient client = MinecraftClient.getInstance();
 	protected final C config;
+	private final Reference2ObjectMap<Entity, EntityThumbnailAtlas.State> thumbnailStates = new Reference2ObjectOpenHashMap<>();
+	private boolean batching;
 
 	protected EntityTooltipComponent(C config) {
 		this.config = config;
@@ -57,7 +78,7 @@ public abstract class EntityTooltipComponent<C extends InspecioConfig.EntityConf
 
 	@Override
 	public TooltipComponent toComponent() {
-		return this;
+		return TooltipStats.wrap(this);
 	}
 
 	@Override
@@ -70,24 +91,100 @@ public abstract class EntityTooltipComponent<C extends InspecioConfig.EntityConf
 		return this.shouldRender() ? 24 : 0;
 	}
 
+	/**
+	 * Begins a batch of entity rendering, the entities rendered until {@link #endEntityBatch()} share a single render state setup
+	 * and are flushed together at the end of the batch.
+	 */
+	protected void beginEntityBatch() {
+		this.setupRenderState();
+		this.batching = true;
+	}
+
+	/**
+	 * Ends the current batch of entity rendering, flushes the rendered entities and restores the render state.
+	 */
+	protected void endEntityBatch() {
+		this.batching = false;
+		this.client.getBufferBuilders().getEntityVertexConsumers().draw();
+		this.restoreRenderState();
+	}
+
 	protected void renderEntity(MatrixStack matrices, int x, int y, Entity entity, int ageOffset, boolean spin, boolean allowCustomName) {
 		this.renderEntity(matrices, x, y, entity, ageOffset, spin, allowCustomName, 180.f);
 	}
 
 	protected void renderEntity(MatrixStack matrices, int x, int y, Entity entity, int ageOffset, boolean spin, boolean allowCustomName, float defaultYaw) {
+		var config = Inspecio.getSnapshot();
+
+		// Non-spinning previews never change, so they can be drawn from the thumbnail atlas. Custom names depend on the control key.
+		if (!spin && config.has(ConfigSnapshot.Flag.THUMBNAIL_ATLAS) && !this.isCustomNameVisible(entity, allowCustomName)) {
+			var key = new EntityThumbnailAtlas.Key(entity.getType(),
+					this.thumbnailStates.computeIfAbsent(entity, EntityThumbnailAtlas::stateOf), defaultYaw);
+
+			if (EntityThumbnailAtlas.draw(matrices, x, y, key, config.getThumbnailAtlasSize(),
+					thumbnailMatrices -> this.renderThumbnail(thumbnailMatrices, entity, ageOffset, allowCustomName, defaultYaw)
+			))
+				return;
+		}
+
+		this.renderEntityDirectly(matrices, x, y, entity, ageOffset, spin, allowCustomName, defaultYaw);
+	}
+
+	private void renderThumbnail(MatrixStack matrices, Entity entity, int ageOffset, boolean allowCustomName, float defaultYaw) {
+		// The thumbnail must be flushed into its cell right away, so it is rendered outside of the current batch.
+		boolean batching = this.batching;
+		this.batching = false;
+		this.renderEntityDirectly(matrices, EntityThumbnailAtlas.ORIGIN_X, EntityThumbnailAtlas.ORIGIN_Y, entity, ageOffset, false,
+				allowCustomName, defaultYaw);
+		this.batching = batching;
+
+		if (batching)
+			this.setupRenderState();
+	}
+
+	private void renderEntityDirectly(MatrixStack matrices, int x, int y, Entity entity, int ageOffset, boolean spin, boolean allowCustomName,
+			float defaultYaw) {
+		if (this.batching) {
+			this.emitEntity(matrices, x, y, entity, ageOffset, spin, allowCustomName, defaultYaw);
+			return;
+		}
+
+		this.setupRenderState();
+		this.emitEntity(matrices, x, y, entity, ageOffset, spin, allowCustomName, defaultYaw);
+		this.client.getBufferBuilders().getEntityVertexConsumers().draw();
+		this.restoreRenderState();
+	}
+
+	private void setupRenderState() {
+		DiffuseLighting.setupFlatGuiLighting();
+
+		var entityRenderDispatcher = this.client.getEntityRenderDispatcher();
+		var rotation = Axis.X_POSITIVE.rotationDegrees(-10.f);
+		rotation.conjugate();
+		((CameraAccessor) entityRenderDispatcher.camera).setYaw(0f);
+		entityRenderDispatcher.setRotation(rotation);
+		entityRenderDispatcher.setRenderShadows(false);
+	}
+
+	private void restoreRenderState() {
+		this.client.getEntityRenderDispatcher().setRenderShadows(true);
+		DiffuseLighting.setup3DGuiLighting();
+	}
+
+	private void emitEntity(MatrixStack matrices, int x, int y, Entity entity, int ageOffset, boolean spin, boolean allowCustomName,
+			float defaultYaw) {
 		float size = 24;
 		if (Math.max(entity.getWidth(), entity.getHeight()) > 1.0) {
 			size /= Math.max(entity.getWidth(), entity.getHeight());
 		}
-		DiffuseLighting.setupFlatGuiLighting();
 		matrices.push();
-		int yOffset = 16;
+		int yOffset = DEFAULT_Y_OFFSET;
 		if (entity instanceof SquidEntity) {
 			size = 16;
-			yOffset = 2;
+			yOffset = SQUID_Y_OFFSET;
 		} else if (entity instanceof ItemEntity) {
 			size = 48;
-			yOffset = 28;
+			yOffset = ITEM_Y_OFFSET;
 		}
 		if (entity instanceof LivingEntity living && living.isBaby()) {
 			size /= 1.7;
@@ -107,25 +204,18 @@ public abstract class EntityTooltipComponent<C extends InspecioConfig.EntityConf
 		}
 		this.setupAngles(entity, this.client.player.age, ageOffset, spin, defaultYaw);
 
-		var entityRenderDispatcher = this.client.getEntityRenderDispatcher();
-		quaternion2.conjugate();
-		((CameraAccessor) entityRenderDispatcher.camera).setYaw(0f);
 		entity.setFireTicks(((EntityAccessor) entity).getHasVisualFire() ? 1 : entity.getFireTicks());
-		entityRenderDispatcher.setRotation(quaternion2);
-
-		entityRenderDispatcher.setRenderShadows(false);
+		entity.setCustomNameVisible(this.isCustomNameVisible(entity, allowCustomName));
 
-		var immediate = this.client.getBufferBuilders().getEntityVertexConsumers();
-		entity.setCustomNameVisible(allowCustomName && entity.hasCustomName() && (this.config.shouldAlwaysShowName() || Screen.hasControlDown()));
-
-		entityRenderDispatcher.render(entity, 0, 0, 0, 0.f, 1.f, matrices, immediate,
-				LightmapTextureManager.MAX_LIGHT_COORDINATE
+		this.client.getEntityRenderDispatcher().render(entity, 0, 0, 0, 0.f, 1.f, matrices,
+				this.client.getBufferBuilders().getEntityVertexConsumers(), LightmapTextureManager.MAX_LIGHT_COORDINATE
 		);
-		immediate.draw();
 
-		entityRenderDispatcher.setRenderShadows(true);
 		matrices.pop();
-		DiffuseLighting.setup3DGuiLighting();
+	}
+
+	private boolean isCustomNameVisible(Entity entity, boolean allowCustomName) {
+		return allowCustomName && entity.hasCustomName() && (this.config.shouldAlwaysShowName() || Screen.hasControlDown());
 	}
 
 	protected void setupAngles(Entity entity, int age, int ageOffset, boolean spin, float defaultYaw) {
@@ -153,7 +243,7 @@ public abstract class EntityTooltipComponent<C extends InspecioConfig.EntityConf
 
 	protected abstract boolean shouldRenderCustomNames();
 
-	protected static void adjustEntity(Entity entity, NbtCompound itemNbt, InspecioConfig.EntitiesConfig config) {
+	protected static void adjustEntity(Entity entity, NbtCompound itemNbt, ConfigSnapshot config) {
 		if (entity instanceof Bucketable bucketable) {
 			bucketable.copyDataFromNbt(itemNbt);
 			if (entity instanceof PufferfishEntity pufferfish) {
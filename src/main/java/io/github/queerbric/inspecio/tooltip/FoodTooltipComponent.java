@@ -17,9 +17,11 @@
 
 package io.github.queerbric.inspecio.tooltip;
 
-import com.mojang.blaze3d.systems.RenderSystem;
+import io.github.queerbric.inspecio.ConfigSnapshot;
 import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.LruCache;
 import io.github.queerbric.inspecio.SaturationTooltipMode;
+import io.github.queerbric.inspecio.TooltipStats;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.tooltip.TooltipComponent;
@@ -33,22 +35,25 @@ public record FoodTooltipComponent(int hunger, float saturation) implements Conv
 	}
 
 	private static final int COLUMNS = 16;
+	private static final int SATURATION_OUTLINE_COLOR = 0xff9f8609;
+	private static final int SATURATION_COLOR = 0xffe5ccd1;
+	private static final LruCache<LayoutKey, IconStrip> LAYOUTS = LruCache.create("food_icons", 32);
 
 	@Override
 	public TooltipComponent toComponent() {
-		return this;
+		return TooltipStats.wrap(this);
 	}
 
 	@Override
 	public int getHeight() {
-		var foodConfig = Inspecio.getConfig().getFoodConfig();
+		var config = Inspecio.getSnapshot();
 		int height = Math.max(
-				11 * this.getLines(this.getHungerChunks()),
-				11 * this.getLines(MathHelper.ceil(this.saturation))
+				11 * getLines(this.getHungerChunks()),
+				11 * getLines(MathHelper.ceil(this.saturation))
 		);
 
-		if (foodConfig.hasHunger() && foodConfig.getSaturationMode() == SaturationTooltipMode.SEPARATED)
-			height += 11 * this.getLines(this.getSaturationChunks());
+		if (config.has(ConfigSnapshot.Flag.HUNGER) && config.getSaturationMode() == SaturationTooltipMode.SEPARATED)
+			height += 11 * getLines(this.getSaturationChunks());
 
 		return height;
 	}
@@ -63,104 +68,118 @@ public record FoodTooltipComponent(int hunger, float saturation) implements Conv
 
 	@Override
 	public void drawItems(TextRenderer textRenderer, int x, int y, GuiGraphics graphics) {
-		var foodConfig = Inspecio.getConfig().getFoodConfig();
+		var config = Inspecio.getSnapshot();
+		var key = new LayoutKey(this.hunger, this.saturation, config.has(ConfigSnapshot.Flag.HUNGER), config.getSaturationMode());
+		LAYOUTS.computeIfAbsent(key, LayoutKey::layout).draw(graphics, x, y);
+	}
 
-		int saturationY = y;
-		if (foodConfig.getSaturationMode() == SaturationTooltipMode.SEPARATED && foodConfig.hasHunger()) {
-			saturationY += 11 * this.getLines(this.getHungerChunks());
-		}
+	private int getHungerChunks() {
+		return getHungerChunks(this.hunger);
+	}
 
-		var pos = new ChunkPos(x, y);
+	private int getSaturationChunks() {
+		return getSaturationChunks(this.saturation);
+	}
 
-		// Draw hunger outline.
-		if (foodConfig.hasHunger()) {
-			for (int i = 0; i < (this.hunger + 1) / 2; i++) {
-				pos.wrap(i);
-				graphics.drawTexture(Inspecio.GUI_ICONS_TEXTURE, pos.x, pos.y, 16, 27, 9, 9, 256, 256);
-				pos.moveForward();
-			}
-		}
+	private static int getHungerChunks(int hunger) {
+		return hunger / 2 + hunger % 2;
+	}
 
-		// Draw saturation outline.
-		if (foodConfig.getSaturationMode().isEnabled()) {
-			RenderSystem.setShaderColor(159 / 255.f, 134 / 255.f, 9 / 255.f, 1.f);
+	private static int getSaturation(float saturation) {
+		return (int) (saturation * 2.f);
+	}
 
-			pos.reset(x, saturationY);
+	private static int getSaturationChunks(float saturation) {
+		int intSaturation = getSaturation(saturation);
+		if (saturation * 2 - intSaturation > 0.2) {
+			return (int) (saturation + 1);
+		} else {
+			return (int) saturation;
+		}
+	}
 
-			for (int i = 0; i < this.saturation; i++) {
-				pos.wrap(i);
+	private static int getLines(int chunks) {
+		return chunks / COLUMNS + (chunks % COLUMNS > 0 ? 1 : 0);
+	}
 
-				int width = 9;
-				if (this.saturation - i < 1f) {
-					width = Math.round(width * (saturation - i));
-				}
-				graphics.drawTexture(Inspecio.GUI_ICONS_TEXTURE, pos.x, pos.y, 25, 27, width, 9, 256, 256);
+	/**
+	 * Represents the key of a laid out food tooltip, the layout only depends on the food values and on the configuration.
+	 */
+	private record LayoutKey(int hunger, float saturation, boolean showHunger, SaturationTooltipMode saturationMode) {
+		private IconStrip layout() {
+			var strip = IconStrip.builder(Inspecio.GUI_ICONS_TEXTURE, 256, 256);
 
-				pos.moveForward();
+			int saturationY = 0;
+			if (this.saturationMode == SaturationTooltipMode.SEPARATED && this.showHunger) {
+				saturationY += 11 * getLines(getHungerChunks(this.hunger));
 			}
-		}
 
-		// Draw hunger bars.
-		RenderSystem.setShaderColor(1.f, 1.f, 1.f, 1.f);
-		if (foodConfig.hasHunger()) {
-			pos.reset(x, y);
+			var pos = new ChunkPos(0, 0);
 
-			for (int i = 0; i < this.hunger / 2; i++) {
-				pos.wrap(i);
-				graphics.drawTexture(Inspecio.GUI_ICONS_TEXTURE, pos.x, pos.y, 52, 27, 9, 9, 256, 256);
-				pos.moveForward();
-			}
-
-			if (this.hunger % 2 == 1) {
-				pos.wrap(this.hunger / 2);
-				graphics.drawTexture(Inspecio.GUI_ICONS_TEXTURE, pos.x, pos.y, 61, 27, 9, 9, 256, 256);
+			// Hunger outline.
+			if (this.showHunger) {
+				for (int i = 0; i < (this.hunger + 1) / 2; i++) {
+					pos.wrap(i);
+					strip.add(pos.x, pos.y, 16, 27, 9, 9, IconStrip.WHITE);
+					pos.moveForward();
+				}
 			}
-		}
 
-		// Draw saturation bar if separate (or alone).
-		if (foodConfig.getSaturationMode() == SaturationTooltipMode.SEPARATED || !foodConfig.hasHunger()) {
-			RenderSystem.setShaderColor(229 / 255.f, 204 / 255.f, 209 / 255.f, 1.f);
+			// Saturation outline.
+			if (this.saturationMode.isEnabled()) {
+				pos.reset(0, saturationY);
 
-			pos.reset(x, saturationY);
+				for (int i = 0; i < this.saturation; i++) {
+					pos.wrap(i);
 
-			int intSaturation = Math.max(1, this.getSaturation());
-			if (this.saturation * 2 - intSaturation > 0.2)
-				intSaturation++;
+					int width = 9;
+					if (this.saturation - i < 1f) {
+						width = Math.round(width * (this.saturation - i));
+					}
+					strip.add(pos.x, pos.y, 25, 27, width, 9, SATURATION_OUTLINE_COLOR);
 
-			for (int i = 0; i < intSaturation / 2; i++) {
-				pos.wrap(i);
-				graphics.drawTexture(Inspecio.GUI_ICONS_TEXTURE, pos.x, pos.y, 52, 27, 9, 9, 256, 256);
-				pos.moveForward();
+					pos.moveForward();
+				}
 			}
 
-			if (intSaturation % 2 == 1) {
-				pos.wrap(intSaturation / 2);
-				graphics.drawTexture(Inspecio.GUI_ICONS_TEXTURE, pos.x, pos.y, 61, 27, 9, 9, 256, 256);
+			// Hunger bars.
+			if (this.showHunger) {
+				pos.reset(0, 0);
+
+				for (int i = 0; i < this.hunger / 2; i++) {
+					pos.wrap(i);
+					strip.add(pos.x, pos.y, 52, 27, 9, 9, IconStrip.WHITE);
+					pos.moveForward();
+				}
+
+				if (this.hunger % 2 == 1) {
+					pos.wrap(this.hunger / 2);
+					strip.add(pos.x, pos.y, 61, 27, 9, 9, IconStrip.WHITE);
+				}
 			}
 
-			RenderSystem.setShaderColor(1.f, 1.f, 1.f, 1.f);
-		}
-	}
+			// Saturation bar if separate (or alone).
+			if (this.saturationMode == SaturationTooltipMode.SEPARATED || !this.showHunger) {
+				pos.reset(0, saturationY);
 
-	private int getHungerChunks() {
-		return this.hunger / 2 + this.hunger % 2;
-	}
+				int intSaturation = Math.max(1, getSaturation(this.saturation));
+				if (this.saturation * 2 - intSaturation > 0.2)
+					intSaturation++;
 
-	private int getSaturation() {
-		return (int) (this.saturation * 2.f);
-	}
+				for (int i = 0; i < intSaturation / 2; i++) {
+					pos.wrap(i);
+					strip.add(pos.x, pos.y, 52, 27, 9, 9, SATURATION_COLOR);
+					pos.moveForward();
+				}
 
-	private int getSaturationChunks() {
-		int intSaturation = this.getSaturation();
-		if (this.saturation * 2 - intSaturation > 0.2) {
-			return (int) (this.saturation + 1);
-		} else {
-			return (int) this.saturation;
-		}
-	}
+				if (intSaturation % 2 == 1) {
+					pos.wrap(intSaturation / 2);
+					strip.add(pos.x, pos.y, 61, 27, 9, 9, SATURATION_COLOR);
+				}
+			}
 
-	private int getLines(int chunks) {
-		return chunks / COLUMNS + (chunks % COLUMNS > 0 ? 1 : 0);
+			return strip.build();
+		}
 	}
 
 	private static class ChunkPos {
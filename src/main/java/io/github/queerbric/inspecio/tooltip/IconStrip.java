@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.tooltip;
+
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.util.Identifier;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+/**
+ * Represents a laid out strip of tinted icons from a single texture, drawn with a single draw call.
+ * <p>
+ * The icons are positioned relative to the origin of the strip, so a strip can be laid out once and drawn at any position.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public final class IconStrip {
+	/**
+	 * The color of untinted icons.
+	 */
+	public static final int WHITE = 0xffffffff;
+	// Per icon: x, y, width, height, minU, minV, maxU, maxV.
+	private static final int STRIDE = 8;
+
+	private final Identifier texture;
+	private final float[] icons;
+	private final int[] colors;
+
+	private IconStrip(Identifier texture, float[] icons, int[] colors) {
+		this.texture = texture;
+		this.icons = icons;
+		this.colors = colors;
+	}
+
+	/**
+	 * Creates a new builder of icon strip.
+	 *
+	 * @param texture the texture of the icons
+	 * @param textureWidth the width of the texture in pixels
+	 * @param textureHeight the height of the texture in pixels
+	 * @return the new builder
+	 */
+	public static Builder builder(Identifier texture, int textureWidth, int textureHeight) {
+		return new Builder(texture, textureWidth, textureHeight);
+	}
+
+	/**
+	 * Creates a new builder of icon strip whose icons are sprites of the given atlas.
+	 *
+	 * @param atlas the identifier of the atlas texture
+	 * @return the new builder
+	 */
+	public static Builder builder(Identifier atlas) {
+		return new Builder(atlas, 1, 1);
+	}
+
+	/**
+	 * Draws this strip.
+	 *
+	 * @param graphics the graphics
+	 * @param x the X coordinate of the origin of the strip
+	 * @param y the Y coordinate of the origin of the strip
+	 */
+	public void draw(GuiGraphics graphics, int x, int y) {
+		if (this.colors.length == 0)
+			return;
+
+		var model = graphics.getMatrices().peek().getModel();
+		var batch = DrawBackend.get().beginQuads(this.texture);
+
+		for (int i = 0; i < this.colors.length; i++) {
+			int offset = i * STRIDE;
+			float minX = x + this.icons[offset];
+			float minY = y + this.icons[offset + 1];
+
+			batch.quad(model, minX, minY, minX + this.icons[offset + 2], minY + this.icons[offset + 3], 0,
+					this.icons[offset + 4], this.icons[offset + 5], this.icons[offset + 6], this.icons[offset + 7],
+					this.colors[i]);
+		}
+
+		batch.end();
+	}
+
+	/**
+	 * Represents a builder of {@link IconStrip}.
+	 */
+	public static final class Builder {
+		private final Identifier texture;
+		private final int textureWidth;
+		private final int textureHeight;
+		private final FloatArrayList icons = new FloatArrayList();
+		private final IntArrayList colors = new IntArrayList();
+
+		private Builder(Identifier texture, int textureWidth, int textureHeight) {
+			this.texture = texture;
+			this.textureWidth = textureWidth;
+			this.textureHeight = textureHeight;
+		}
+
+		/**
+		 * Adds an icon from a region of the texture, the same way {@link GuiGraphics#drawTexture(Identifier, int, int, float, float, int, int, int, int)} does.
+		 *
+		 * @param x the X coordinate of the icon relative to the origin of the strip
+		 * @param y the Y coordinate of the icon relative to the origin of the strip
+		 * @param u the U coordinate of the region in pixels
+		 * @param v the V coordinate of the region in pixels
+		 * @param width the width of the icon and of the region
+		 * @param height the height of the icon and of the region
+		 * @param color the tint of the icon as ARGB
+		 * @return {@code this}
+		 */
+		public Builder add(int x, int y, int u, int v, int width, int height, int color) {
+			return this.add(x, y, width, height,
+					u / (float) this.textureWidth, v / (float) this.textureHeight,
+					(u + width) / (float) this.textureWidth, (v + height) / (float) this.textureHeight,
+					color);
+		}
+
+		/**
+		 * Adds a sprite icon, the sprite must be from the atlas of this strip.
+		 *
+		 * @param x the X coordinate of the icon relative to the origin of the strip
+		 * @param y the Y coordinate of the icon relative to the origin of the strip
+		 * @param width the width of the icon
+		 * @param height the height of the icon
+		 * @param sprite the sprite
+		 * @param color the tint of the icon as ARGB
+		 * @return {@code this}
+		 */
+		public Builder add(int x, int y, int width, int height, Sprite sprite, int color) {
+			if (!sprite.getAtlasId().equals(this.texture))
+				throw new IllegalArgumentException("Sprite " + sprite + " is not from the atlas " + this.texture + ".");
+
+			return this.add(x, y, width, height, sprite.getMinU(), sprite.getMinV(), sprite.getMaxU(), sprite.getMaxV(), color);
+		}
+
+		private Builder add(int x, int y, int width, int height, float minU, float minV, float maxU, float maxV, int color) {
+			this.icons.add(x);
+			this.icons.add(y);
+			this.icons.add(width);
+			this.icons.add(height);
+			this.icons.add(minU);
+			this.icons.add(minV);
+			this.icons.add(maxU);
+			this.icons.add(maxV);
+			this.colors.add(color);
+			return this;
+		}
+
+		public IconStrip build() {
+			return new IconStrip(this.texture, this.icons.toFloatArray(), this.colors.toIntArray());
+		}
+	}
+}
@@ -17,122 +17,238 @@
 
 package io.github.queerbric.inspecio.tooltip;
 
-import com.mojang.blaze3d.systems.RenderSystem;
+import io.github.queerbric.inspecio.InventoryNbtReader;
+import io.github.queerbric.inspecio.NbtFingerprint;
+import io.github.queerbric.inspecio.TooltipStats;
+import io.github.queerbric.inspecio.api.InspectionContext;
 import io.github.queerbric.inspecio.api.InventoryProvider;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.tooltip.TooltipComponent;
 import net.minecraft.client.item.TooltipData;
-import net.minecraft.item.BlockItem;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.DyeColor;
-import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
+import net.minecraft.util.math.MathHelper;
 import org.jetbrains.annotations.Nullable;
 import org.quiltmc.qsl.tooltip.api.ConvertibleTooltipData;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Represents the inventory tooltip component.
+ * <p>
+ * Only a bounded amount of rows is displayed at once, inventories with more rows are scrolled with the mouse wheel
+ * and only the visible rows are drawn.
  *
  * @author LambdAurora
- * @version 1.8.1
+ * @version 1.9.0
  * @since 1.0.0
  */
 public class InventoryTooltipComponent implements ConvertibleTooltipData, TooltipComponent {
-	private static final Identifier STATS_ICONS_TEXTURE = new Identifier("textures/gui/container/stats_icons.png");
+	private static final int SCROLLBAR_WIDTH = 3;
+	/**
+	 * The delay in milliseconds after which a scrollable inventory which has not been drawn stops receiving scroll events.
+	 */
+	private static final long SCROLL_TARGET_TIMEOUT = 100;
+	private static @Nullable InventoryTooltipComponent scrollTarget;
+	private static long scrollTargetDrawTime;
 	private final List<ItemStack> inventory;
 	private final int columns;
 	private final DyeColor color;
+	private final int maxRows;
+	private int scrollRow;
 
-	public InventoryTooltipComponent(List<ItemStack> inventory, int columns, @Nullable DyeColor color) {
+	public InventoryTooltipComponent(List<ItemStack> inventory, int columns, @Nullable DyeColor color, int maxRows) {
 		this.inventory = inventory;
 		this.columns = columns == 0 ? inventory.size() / 3 : columns;
 		this.color = color;
+		this.maxRows = Math.max(maxRows, 1);
+	}
+
+	public InventoryTooltipComponent(List<ItemStack> inventory, int columns, @Nullable DyeColor color) {
+		this(inventory, columns, color, Integer.MAX_VALUE);
 	}
 
 	public static Optional<TooltipData> of(ItemStack stack, boolean compact, @Nullable InventoryProvider.Context context) {
+		return of(stack, compact, Integer.MAX_VALUE, context);
+	}
+
+	public static Optional<TooltipData> of(ItemStack stack, boolean compact, int maxRows, @Nullable InventoryProvider.Context context) {
 		if (context == null) {
 			return Optional.empty();
 		}
 
 		List<ItemStack> inventory = context.inventory();
-		var blockEntityNbt = BlockItem.getBlockEntityNbtFromStack(stack);
+		var blockEntityNbt = InspectionContext.of(stack).getBlockEntityNbt();
 		if (blockEntityNbt == null)
 			return Optional.empty();
 
-		if (inventory.stream().allMatch(ItemStack::isEmpty))
-			return Optional.empty();
-
 		int columns = Math.min(context.columns(), 9);
 
 		if (compact) {
-			var compactedInventory = new ArrayList<ItemStack>();
-			inventory.forEach(invStack -> {
-				if (invStack.isEmpty())
-					return;
-				compactedInventory.stream().filter(other -> ItemStack.canCombine(other, invStack))
-						.findFirst()
-						.ifPresentOrElse(
-								s -> s.increment(invStack.getCount()),
-								() -> compactedInventory.add(invStack)
-						);
-			});
-
-			inventory = compactedInventory;
+			// The built-in provider already reads the compacted form of the inventory.
+			if (!InventoryNbtReader.isCompacted(inventory))
+				inventory = compact(inventory);
 			columns = 9;
+
+			if (inventory.isEmpty())
+				return Optional.empty();
+		} else if (isEmpty(inventory)) {
+			return Optional.empty();
+		}
+
+		return Optional.of(new InventoryTooltipComponent(inventory, columns, context.color(), maxRows));
+	}
+
+	/**
+	 * Compacts the given inventory by merging the stacks which can be combined, regardless of their maximum count.
+	 * <p>
+	 * The merge is done in a single pass keyed by the item and the content of the NBT,
+	 * the given stacks are left untouched as the merged stacks are copies.
+	 *
+	 * @param inventory the inventory to compact
+	 * @return the compacted inventory, in order of first appearance
+	 */
+	public static List<ItemStack> compact(List<ItemStack> inventory) {
+		var compacted = new LinkedHashMap<StackKey, ItemStack>();
+
+		for (var stack : inventory) {
+			if (stack.isEmpty())
+				continue;
+
+			var merged = compacted.get(StackKey.of(stack));
+			if (merged == null) {
+				// Key on the copy so the cached key never holds the NBT of the source stack.
+				var copy = stack.copy();
+				compacted.put(StackKey.of(copy), copy);
+			} else {
+				merged.increment(stack.getCount());
+			}
 		}
 
-		return Optional.of(new InventoryTooltipComponent(inventory, columns, context.color()));
+		return new ArrayList<>(compacted.values());
+	}
+
+	/**
+	 * Scrolls the scrollable inventory tooltip which is currently displayed, if any.
+	 *
+	 * @param amount the vertical scroll amount, positive values scroll up
+	 * @return {@code true} if an inventory tooltip consumed the scroll, or {@code false} otherwise
+	 */
+	public static boolean scroll(double amount) {
+		var target = scrollTarget;
+		if (target == null || amount == 0 || Util.getMeasuringTimeMs() - scrollTargetDrawTime > SCROLL_TARGET_TIMEOUT)
+			return false;
+
+		int maxScroll = target.getRows() - target.getVisibleRows();
+		target.scrollRow = MathHelper.clamp(target.scrollRow - (int) Math.signum(amount), 0, maxScroll);
+		return true;
+	}
+
+	private static boolean isEmpty(List<ItemStack> inventory) {
+		for (var stack : inventory) {
+			if (!stack.isEmpty())
+				return false;
+		}
+
+		return true;
 	}
 
 	@Override
 	public TooltipComponent toComponent() {
-		return this;
+		return TooltipStats.wrap(this);
 	}
 
 	@Override
 	public int getHeight() {
-		int rows = this.inventory.size() / this.getColumns();
-		if (this.inventory.size() % this.getColumns() != 0)
-			rows++;
-		return 18 * rows + 3;
+		return 18 * this.getVisibleRows() + 3;
 	}
 
 	@Override
 	public int getWidth(TextRenderer textRenderer) {
-		return this.getColumns() * 18;
+		int width = this.getColumns() * 18;
+		if (this.isScrollable())
+			width += SCROLLBAR_WIDTH + 1;
+		return width;
 	}
 
 	@Override
 	public void drawItems(TextRenderer textRenderer, int xOffset, int yOffset, GuiGraphics graphics) {
-		int x = 1;
-		int y = 1;
-		int lines = this.getColumns();
-
-		for (var stack : this.inventory) {
-			drawSlot(graphics, x + xOffset - 1, y + yOffset - 1, 0, this.color == null ? null : color.getColorComponents());
-			graphics.drawItem(stack, xOffset + x, yOffset + y);
-			graphics.drawItemInSlot(textRenderer, stack, xOffset + x, yOffset + y);
-			x += 18;
-			if (x >= 18 * lines) {
-				x = 1;
-				y += 18;
-			}
+		int columns = this.getColumns();
+		int visibleRows = this.getVisibleRows();
+		// The inventory may have been scrolled by a previous tooltip sharing this component before its size changed.
+		this.scrollRow = MathHelper.clamp(this.scrollRow, 0, this.getRows() - visibleRows);
+
+		int firstSlot = this.scrollRow * columns;
+		int lastSlot = Math.min(this.inventory.size(), firstSlot + visibleRows * columns);
+		var color = this.color == null ? null : this.color.getColorComponents();
+		var batch = new SlotBatch(graphics);
+
+		for (int slot = firstSlot; slot < lastSlot; slot++) {
+			int x = xOffset + (slot % columns) * 18 + 1;
+			int y = yOffset + (slot / columns - this.scrollRow) * 18 + 1;
+			batch.add(this.inventory.get(slot), x, y, color);
+		}
+
+		batch.draw(textRenderer);
+
+		if (this.isScrollable()) {
+			this.drawScrollbar(graphics, xOffset + columns * 18 + 1, yOffset, visibleRows);
+			scrollTarget = this;
+			scrollTargetDrawTime = Util.getMeasuringTimeMs();
 		}
 	}
 
+	private void drawScrollbar(GuiGraphics graphics, int x, int y, int visibleRows) {
+		int rows = this.getRows();
+		int trackHeight = visibleRows * 18;
+		int thumbHeight = Math.max(trackHeight * visibleRows / rows, 4);
+		int thumbY = y + (trackHeight - thumbHeight) * this.scrollRow / (rows - visibleRows);
+
+		graphics.fill(x, y, x + SCROLLBAR_WIDTH, y + trackHeight, 0x40ffffff);
+		graphics.fill(x, thumbY, x + SCROLLBAR_WIDTH, thumbY + thumbHeight, 0xffc6c6c6);
+	}
+
+	/**
+	 * Draws a single slot background, prefer {@link SlotBatch} to draw several slots.
+	 *
+	 * @param graphics the graphics
+	 * @param x the X coordinate of the slot background
+	 * @param y the Y coordinate of the slot background
+	 * @param z the Z coordinate of the slot background
+	 * @param color the color of the slot background as RGB components, or {@code null} for no tint
+	 */
 	public static void drawSlot(GuiGraphics graphics, int x, int y, int z, float[] color) {
-		if (color == null)
-			color = new float[]{1.f, 1.f, 1.f};
-		RenderSystem.setShaderColor(color[0], color[1], color[2], 1.f);
-		graphics.drawTexture(STATS_ICONS_TEXTURE, x, y, z, 0.f, 0.f, 18, 18, 128, 128);
-		RenderSystem.setShaderColor(1.f, 1.f, 1.f, 1.f);
+		SlotBatch.drawBackground(graphics, x, y, z, color);
 	}
 
 	protected int getColumns() {
 		return this.columns;
 	}
+
+	private int getRows() {
+		int rows = this.inventory.size() / this.getColumns();
+		if (this.inventory.size() % this.getColumns() != 0)
+			rows++;
+		return rows;
+	}
+
+	private int getVisibleRows() {
+		return Math.min(this.getRows(), this.maxRows);
+	}
+
+	private boolean isScrollable() {
+		return this.getRows() > this.maxRows;
+	}
+
+	private record StackKey(Item item, NbtFingerprint nbt) {
+		static StackKey of(ItemStack stack) {
+			return new StackKey(stack.getItem(), NbtFingerprint.of(stack.getNbt()));
+		}
+	}
 }
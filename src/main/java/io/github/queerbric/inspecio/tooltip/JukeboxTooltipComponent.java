@@ -17,15 +17,15 @@
 
 package io.github.queerbric.inspecio.tooltip;
 
+import io.github.queerbric.inspecio.ConfigSnapshot;
 import io.github.queerbric.inspecio.Inspecio;
-import io.github.queerbric.inspecio.InspecioConfig;
 import io.github.queerbric.inspecio.JukeboxTooltipMode;
+import io.github.queerbric.inspecio.api.InspectionContext;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.item.TooltipData;
 import net.minecraft.client.render.LightmapTextureManager;
 import net.minecraft.client.render.VertexConsumerProvider;
-import net.minecraft.item.BlockItem;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.MusicDiscItem;
 import net.minecraft.util.collection.DefaultedList;
@@ -41,7 +41,7 @@ import java.util.Optional;
  * @since 1.0.0
  */
 public class JukeboxTooltipComponent extends InventoryTooltipComponent {
-	private final InspecioConfig config = Inspecio.getConfig();
+	private final ConfigSnapshot config = Inspecio.getSnapshot();
 	private final MusicDiscItem disc;
 
 	public JukeboxTooltipComponent(ItemStack discStack) {
@@ -50,8 +50,8 @@ public class JukeboxTooltipComponent extends InventoryTooltipComponent {
 	}
 
 	public static Optional<TooltipData> of(ItemStack stack) {
-		if (!Inspecio.getConfig().getJukeboxTooltipMode().isEnabled()) return Optional.empty();
-		var nbt = BlockItem.getBlockEntityNbtFromStack(stack);
+		if (!Inspecio.getSnapshot().getJukeboxTooltipMode().isEnabled()) return Optional.empty();
+		var nbt = InspectionContext.of(stack).getBlockEntityNbt();
 		if (nbt != null && nbt.contains("RecordItem")) {
 			var discStack = ItemStack.fromNbt(nbt.getCompound("RecordItem"));
 			if (discStack.getItem() instanceof MusicDiscItem)
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.tooltip;
+
+import io.github.queerbric.inspecio.TooltipStats;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.gui.tooltip.TooltipComponent;
+import net.minecraft.client.render.LightmapTextureManager;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import org.joml.Matrix4f;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+import org.quiltmc.qsl.tooltip.api.ConvertibleTooltipData;
+
+/**
+ * Represents the placeholder tooltip component displayed while tooltip data is being prepared.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ * @see io.github.queerbric.inspecio.AsyncTooltipLoader
+ */
+@ClientOnly
+public final class LoadingTooltipComponent implements ConvertibleTooltipData, TooltipComponent {
+	public static final LoadingTooltipComponent INSTANCE = new LoadingTooltipComponent();
+	private static final Text TEXT = Text.translatable("inspecio.tooltip.loading").formatted(Formatting.GRAY);
+
+	private LoadingTooltipComponent() {
+	}
+
+	@Override
+	public TooltipComponent toComponent() {
+		return TooltipStats.wrap(this);
+	}
+
+	@Override
+	public int getHeight() {
+		return 10;
+	}
+
+	@Override
+	public int getWidth(TextRenderer textRenderer) {
+		return textRenderer.getWidth(TEXT);
+	}
+
+	@Override
+	public void drawText(TextRenderer textRenderer, int x, int y, Matrix4f matrix4f, VertexConsumerProvider.Immediate immediate) {
+		textRenderer.draw(TEXT, x, y, -1, true, matrix4f, immediate, TextRenderer.TextLayerType.NORMAL, 0, LightmapTextureManager.MAX_LIGHT_COORDINATE);
+	}
+}
@@ -17,7 +17,11 @@
 
 package io.github.queerbric.inspecio.tooltip;
 
+import io.github.queerbric.inspecio.ConfigSnapshot;
 import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.InspecioConfig;
+import io.github.queerbric.inspecio.LruCache;
+import io.github.queerbric.inspecio.TooltipStats;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.GuiGraphics;
@@ -27,11 +31,24 @@ import net.minecraft.client.render.LightmapTextureManager;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.item.FilledMapItem;
 import net.minecraft.item.ItemStack;
+import net.minecraft.item.map.MapState;
+import org.jetbrains.annotations.Nullable;
 import org.quiltmc.qsl.tooltip.api.ConvertibleTooltipData;
 
 import java.util.Optional;
 
+/**
+ * Represents a tooltip component which displays a filled map.
+ * <p>
+ * The map geometry is recorded once per map and drawn from the recording until the map is updated.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.0.0
+ */
 public class MapTooltipComponent implements ConvertibleTooltipData, TooltipComponent {
+	private static final LruCache<Integer, CachedMap> CACHE = LruCache.create("filled_map",
+			InspecioConfig.FilledMapConfig.DEFAULT_CACHE_SIZE, (id, map) -> map.mesh().close());
 	private final MinecraftClient client = MinecraftClient.getInstance();
 	public int map;
 
@@ -40,14 +57,30 @@ public class MapTooltipComponent implements ConvertibleTooltipData, TooltipCompo
 	}
 
 	public static Optional<TooltipData> of(ItemStack stack) {
-		if (!Inspecio.getConfig().getFilledMapConfig().isEnabled()) return Optional.empty();
+		if (!Inspecio.getSnapshot().has(ConfigSnapshot.Flag.FILLED_MAP)) return Optional.empty();
 		var map = FilledMapItem.getMapId(stack);
 		return map == null ? Optional.empty() : Optional.of(new MapTooltipComponent(map));
 	}
 
+	/**
+	 * Invalidates the cached rendering of the given map, this is done when the map colors or decorations are updated.
+	 *
+	 * @param map the map id
+	 */
+	public static void invalidate(int map) {
+		CACHE.remove(map);
+	}
+
+	/**
+	 * Clears the cached rendering of every map.
+	 */
+	public static void clearCache() {
+		CACHE.clear();
+	}
+
 	@Override
 	public TooltipComponent toComponent() {
-		return this;
+		return TooltipStats.wrap(this);
 	}
 
 	@Override
@@ -62,17 +95,46 @@ public class MapTooltipComponent implements ConvertibleTooltipData, TooltipCompo
 
 	@Override
 	public void drawItems(TextRenderer textRenderer, int x, int y, GuiGraphics graphics) {
-		var vertices = this.client.getBufferBuilders().getEntityVertexConsumers();
-		var map = this.client.gameRenderer.getMapRenderer();
-		var state = FilledMapItem.getMapState(this.map, this.client.world);
-		if (state == null) return;
+		var cachedMap = this.getCachedMap();
+		if (cachedMap == null) return;
 		MatrixStack matrices = graphics.getMatrices();
 		matrices.push();
 		matrices.translate(x, y, 0);
 		matrices.scale(1, 1, 0);
-		map.render(matrices, vertices, this.map, state, !Inspecio.getConfig().getFilledMapConfig().shouldShowPlayerIcon(),
-				LightmapTextureManager.MAX_LIGHT_COORDINATE);
-		vertices.draw();
+		cachedMap.mesh().draw(matrices);
 		matrices.pop();
 	}
+
+	private @Nullable CachedMap getCachedMap() {
+		var config = Inspecio.getSnapshot();
+		boolean hidePlayerIcons = !config.has(ConfigSnapshot.Flag.FILLED_MAP_PLAYER_ICON);
+
+		if (CACHE.getMaxSize() != config.getFilledMapCacheSize())
+			CACHE.setMaxSize(config.getFilledMapCacheSize());
+
+		var cachedMap = CACHE.get(this.map);
+		if (cachedMap != null && cachedMap.hidePlayerIcons() == hidePlayerIcons)
+			return cachedMap;
+
+		var state = FilledMapItem.getMapState(this.map, this.client.world);
+		if (state == null) return null;
+
+		var mapRenderer = this.client.gameRenderer.getMapRenderer();
+		var mesh = RecordedMesh.record(vertices -> mapRenderer.render(new MatrixStack(), vertices, this.map, state, hidePlayerIcons,
+				LightmapTextureManager.MAX_LIGHT_COORDINATE));
+
+		cachedMap = new CachedMap(state, hidePlayerIcons, mesh);
+		CACHE.put(this.map, cachedMap);
+		return cachedMap;
+	}
+
+	/**
+	 * Represents the cached rendering of a map.
+	 *
+	 * @param state the resolved state of the map
+	 * @param hidePlayerIcons {@code true} if player icons were hidden when the map was recorded, or {@code false} otherwise
+	 * @param mesh the recorded geometry of the map
+	 */
+	private record CachedMap(MapState state, boolean hidePlayerIcons, RecordedMesh mesh) {
+	}
 }
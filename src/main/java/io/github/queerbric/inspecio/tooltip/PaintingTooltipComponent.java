@@ -17,7 +17,9 @@
 
 package io.github.queerbric.inspecio.tooltip;
 
+import io.github.queerbric.inspecio.ConfigSnapshot;
 import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.TooltipStats;
 import io.github.queerbric.inspecio.mixin.DecorationItemAccessor;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
@@ -48,7 +50,7 @@ import java.util.Optional;
 @ClientOnly
 public record PaintingTooltipComponent(PaintingVariant painting) implements ConvertibleTooltipData, TooltipComponent {
 	public static Optional<TooltipData> of(ItemStack stack) {
-		if (!Inspecio.getConfig().hasPainting())
+		if (!Inspecio.getSnapshot().has(ConfigSnapshot.Flag.PAINTING))
 			return Optional.empty();
 
 		NbtCompound nbt = stack.getNbt();
@@ -71,7 +73,7 @@ public record PaintingTooltipComponent(PaintingVariant painting) implements Conv
 
 	@Override
 	public TooltipComponent toComponent() {
-		return this;
+		return TooltipStats.wrap(this);
 	}
 
 	@Override
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.tooltip;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.VertexBuffer;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
+import org.joml.Matrix4f;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Represents geometry which has been recorded once into GPU vertex buffers, one per render layer, and which can be drawn any amount of times.
+ * <p>
+ * This is used for tooltip content which only changes on specific events, to avoid re-emitting the same vertices every frame.
+ * A recorded mesh holds GPU resources and must be {@linkplain #close() closed} once it is not used anymore.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public final class RecordedMesh implements AutoCloseable {
+	/**
+	 * The builders which are not used by a recording, there are at most as many as the render layers of a single recording.
+	 */
+	private static final Deque<BufferBuilder> FREE_BUILDERS = new ArrayDeque<>();
+
+	private final List<Part> parts;
+
+	private RecordedMesh(List<Part> parts) {
+		this.parts = parts;
+	}
+
+	/**
+	 * Records a new mesh, the geometry is emitted in local coordinates and is positioned when {@linkplain #draw(MatrixStack) drawn}.
+	 *
+	 * @param renderer the renderer which emits the geometry into the given vertex consumers
+	 * @return the recorded mesh
+	 */
+	public static RecordedMesh record(Consumer<VertexConsumerProvider> renderer) {
+		RenderSystem.assertOnRenderThread();
+
+		var builders = new LinkedHashMap<RenderLayer, BufferBuilder>();
+		try {
+			renderer.accept(layer -> builders.computeIfAbsent(layer, RecordedMesh::begin));
+			return upload(builders);
+		} finally {
+			// The native memory of the builders is reused by the next recordings instead of being allocated each time,
+			// builders left building by a failed recording are dropped.
+			for (var builder : builders.values()) {
+				if (!builder.isBuilding())
+					FREE_BUILDERS.add(builder);
+			}
+		}
+	}
+
+	private static BufferBuilder begin(RenderLayer layer) {
+		var builder = FREE_BUILDERS.pollLast();
+		if (builder == null)
+			builder = new BufferBuilder(layer.getExpectedBufferSize());
+
+		builder.begin(layer.getDrawMode(), layer.getVertexFormat());
+		return builder;
+	}
+
+	private static RecordedMesh upload(Map<RenderLayer, BufferBuilder> builders) {
+		var parts = new ArrayList<Part>(builders.size());
+
+		builders.forEach((layer, builder) -> {
+			var buffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
+			buffer.bind();
+			buffer.upload(builder.end());
+			VertexBuffer.unbind();
+			parts.add(new Part(layer, buffer));
+		});
+
+		return new RecordedMesh(List.copyOf(parts));
+	}
+
+	/**
+	 * Draws this mesh.
+	 *
+	 * @param matrices the matrices which position the mesh
+	 */
+	public void draw(MatrixStack matrices) {
+		var modelView = new Matrix4f(RenderSystem.getModelViewMatrix()).mul(matrices.peek().getModel());
+
+		for (var part : this.parts) {
+			part.layer().startDrawing();
+			part.buffer().bind();
+			part.buffer().draw(modelView, RenderSystem.getProjectionMatrix(), RenderSystem.getShader());
+			VertexBuffer.unbind();
+			part.layer().endDrawing();
+		}
+	}
+
+	@Override
+	public void close() {
+		for (var part : this.parts) {
+			part.buffer().close();
+		}
+	}
+
+	private record Part(RenderLayer layer, VertexBuffer buffer) {
+	}
+}
@@ -20,8 +20,13 @@ package io.github.queerbric.inspecio.tooltip;
 import com.mojang.blaze3d.lighting.DiffuseLighting;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.VertexConsumer;
+import io.github.queerbric.inspecio.AsyncTooltipLoader;
 import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.LruCache;
+import io.github.queerbric.inspecio.NbtFingerprint;
 import io.github.queerbric.inspecio.SignTooltipMode;
+import io.github.queerbric.inspecio.TooltipStats;
+import io.github.queerbric.inspecio.api.InspectionContext;
 import net.minecraft.block.AbstractSignBlock;
 import net.minecraft.block.entity.SignText;
 import net.minecraft.client.MinecraftClient;
@@ -39,7 +44,6 @@ import net.minecraft.client.render.block.entity.HangingSignBlockEntityRenderer;
 import net.minecraft.client.render.block.entity.SignBlockEntityRenderer;
 import net.minecraft.client.resource.Material;
 import net.minecraft.client.util.math.MatrixStack;
-import net.minecraft.item.BlockItem;
 import net.minecraft.item.HangingSignItem;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.SignItem;
@@ -51,6 +55,7 @@ import net.minecraft.util.DyeColor;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.SignType;
 import net.minecraft.util.math.Axis;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
 import org.quiltmc.qsl.tooltip.api.ConvertibleTooltipData;
 
@@ -60,36 +65,91 @@ import java.util.Optional;
 
 public abstract class SignTooltipComponent<M extends Model> implements ConvertibleTooltipData, TooltipComponent {
 	protected static final MinecraftClient CLIENT = MinecraftClient.getInstance();
-	private final SignTooltipMode tooltipMode = Inspecio.getConfig().getSignTooltipMode();
+	/**
+	 * The parsed signs, keyed by their text NBT.
+	 * Parsing is done off the render thread when asynchronous preparation is enabled, the cache is thread-safe.
+	 */
+	private static final LruCache<ParsedSign.Key, ParsedSign> PARSED_SIGNS = LruCache.create("sign", 64);
+	private final SignTooltipMode tooltipMode = Inspecio.getSnapshot().getSignTooltipMode();
 	protected final SignType type;
-	private final SignText front;
-	private final SignText back;
+	private final ParsedSign sign;
+	private final int[][] lineWidths = new int[2][];
 	protected final M model;
 
 	public SignTooltipComponent(SignType type, SignText front, SignText back, M model) {
+		this(type, ParsedSign.of(front, back, CLIENT.shouldFilterText()), model);
+	}
+
+	public SignTooltipComponent(SignType type, ParsedSign sign, M model) {
 		this.type = type;
-		this.front = front;
-		this.back = back;
+		this.sign = sign;
 		this.model = model;
 	}
 
 	public static Optional<TooltipData> fromItemStack(ItemStack stack) {
-		if (!Inspecio.getConfig().getSignTooltipMode().isEnabled())
+		if (!Inspecio.getSnapshot().getSignTooltipMode().isEnabled())
 			return Optional.empty();
 
 		if (stack.getItem() instanceof HangingSignItem signItem) {
-			var block = signItem.getBlock();
-			var nbt = BlockItem.getBlockEntityNbtFromStack(stack);
-			if (nbt != null) return Optional.ofNullable(fromTag(AbstractSignBlock.getSignType(block), nbt, true));
+			return fromItemStack(stack, AbstractSignBlock.getSignType(signItem.getBlock()), true);
 		} else if (stack.getItem() instanceof SignItem signItem) {
-			var block = signItem.getBlock();
-			var nbt = BlockItem.getBlockEntityNbtFromStack(stack);
-			if (nbt != null) return Optional.ofNullable(fromTag(AbstractSignBlock.getSignType(block), nbt, false));
+			return fromItemStack(stack, AbstractSignBlock.getSignType(signItem.getBlock()), false);
 		}
 		return Optional.empty();
 	}
 
+	private static Optional<TooltipData> fromItemStack(ItemStack stack, SignType type, boolean hanging) {
+		if (InspectionContext.of(stack).getBlockEntityNbt() == null)
+			return Optional.empty();
+
+		// Parsing the texts only works on data, the model is created on the render thread.
+		return AsyncTooltipLoader.load(stack,
+				snapshot -> {
+					var nbt = InspectionContext.of(snapshot).getBlockEntityNbt();
+					boolean filtered = CLIENT.shouldFilterText();
+					return () -> parseTexts(nbt, filtered);
+				},
+				texts -> Optional.ofNullable(fromTexts(type, texts, hanging))
+		);
+	}
+
 	public static SignTooltipComponent<?> fromTag(SignType type, NbtCompound nbt, boolean hanging) {
+		return fromTag(type, nbt, hanging, CLIENT.shouldFilterText());
+	}
+
+	public static SignTooltipComponent<?> fromTag(SignType type, NbtCompound nbt, boolean hanging, boolean filtered) {
+		return fromTexts(type, parseTexts(nbt, filtered), hanging);
+	}
+
+	/**
+	 * Clears the cache of parsed signs, this is done on resource reload as the laid out lines depend on the language and fonts.
+	 */
+	public static void clearCache() {
+		PARSED_SIGNS.clear();
+	}
+
+	/**
+	 * Parses the texts of the given sign NBT, or gets them from the cache.
+	 * <p>
+	 * The filter flag is passed in as the client options must be read on the render thread.
+	 *
+	 * @param nbt the block entity NBT of the sign
+	 * @param filtered {@code true} if the lines should be filtered, or {@code false} otherwise
+	 * @return the parsed sign
+	 */
+	private static ParsedSign parseTexts(NbtCompound nbt, boolean filtered) {
+		var key = ParsedSign.Key.of(nbt, filtered);
+		var sign = PARSED_SIGNS.get(key);
+
+		if (sign == null) {
+			sign = decodeTexts(nbt, filtered);
+			PARSED_SIGNS.put(key.detach(), sign);
+		}
+
+		return sign;
+	}
+
+	private static ParsedSign decodeTexts(NbtCompound nbt, boolean filtered) {
 		Optional<SignText> front = Optional.empty();
 		Optional<SignText> back = Optional.empty();
 
@@ -107,12 +167,16 @@ public abstract class SignTooltipComponent<M extends Model> implements Convertib
 					.map(SignTooltipComponent::parseLines);
 		}
 
-		if (front.isEmpty() && back.isEmpty()) {
+		return ParsedSign.of(front.orElse(null), back.orElse(null), filtered);
+	}
+
+	private static @Nullable SignTooltipComponent<?> fromTexts(SignType type, ParsedSign sign, boolean hanging) {
+		if (sign.front() == null && sign.back() == null) {
 			return null;
 		} else if (hanging) {
-			return new HangingSign(type, front.orElse(null), back.orElse(null));
+			return new HangingSign(type, sign);
 		} else {
-			return new Sign(type, front.orElse(null), back.orElse(null));
+			return new Sign(type, sign);
 		}
 	}
 
@@ -128,24 +192,42 @@ public abstract class SignTooltipComponent<M extends Model> implements Convertib
 
 	@Override
 	public TooltipComponent toComponent() {
-		return this;
+		return TooltipStats.wrap(this);
 	}
 
 	protected boolean shouldShowBack() {
-		return this.front == null || (this.back != null && Screen.hasControlDown());
+		return this.sign.front() == null || (this.sign.back() != null && Screen.hasControlDown());
 	}
 
 	private SignText getText() {
-		if (this.shouldShowBack()) return this.back;
-		else return this.front;
+		if (this.shouldShowBack()) return this.sign.back();
+		else return this.sign.front();
 	}
 
 	private Text[] getMessages() {
-		return this.getText().getMessages(MinecraftClient.getInstance().shouldFilterText());
+		return this.getText().getMessages(this.sign.filtered());
 	}
 
 	private OrderedText[] getOrderedMessages() {
-		return this.getText().getOrderedMessages(MinecraftClient.getInstance().shouldFilterText(), Text::asOrderedText);
+		return this.shouldShowBack() ? this.sign.backLines() : this.sign.frontLines();
+	}
+
+	private int[] getLineWidths(TextRenderer textRenderer) {
+		int side = this.shouldShowBack() ? 1 : 0;
+		var widths = this.lineWidths[side];
+
+		if (widths == null) {
+			var messages = this.getOrderedMessages();
+			widths = new int[messages.length];
+
+			for (int i = 0; i < messages.length; i++) {
+				widths[i] = textRenderer.getWidth(messages[i]);
+			}
+
+			this.lineWidths[side] = widths;
+		}
+
+		return widths;
 	}
 
 	@Override
@@ -177,6 +259,7 @@ public abstract class SignTooltipComponent<M extends Model> implements Convertib
 	public void drawTextAt(TextRenderer textRenderer, int x, int y, Matrix4f matrix4f, VertexConsumerProvider.Immediate immediate, boolean center) {
 		int signColor = this.getText().getColor().getSignColor();
 		var messages = this.getOrderedMessages();
+		var widths = this.getLineWidths(textRenderer);
 
 		if (this.getText().hasGlowingText()) {
 			int outlineColor;
@@ -192,7 +275,7 @@ public abstract class SignTooltipComponent<M extends Model> implements Convertib
 
 			for (int i = 0; i < messages.length; i++) {
 				var text = messages[i];
-				float textX = center ? (45 - textRenderer.getWidth(text) / 2.f) : x;
+				float textX = center ? (45 - widths[i] / 2.f) : x;
 				textRenderer.drawWithOutline(text, textX, y + i * 10, signColor, outlineColor, matrix4f, immediate,
 						LightmapTextureManager.MAX_LIGHT_COORDINATE
 				);
@@ -204,7 +287,7 @@ public abstract class SignTooltipComponent<M extends Model> implements Convertib
 
 			for (int i = 0; i < messages.length; i++) {
 				var text = messages[i];
-				float textX = center ? (45 - textRenderer.getWidth(text) / 2.f) : x;
+				float textX = center ? (45 - widths[i] / 2.f) : x;
 				textRenderer.draw(
 						text, textX, y + i * 10, signColor, false, matrix4f, immediate, TextRenderer.TextLayerType.NORMAL,
 						0, LightmapTextureManager.MAX_LIGHT_COORDINATE
@@ -234,9 +317,10 @@ public abstract class SignTooltipComponent<M extends Model> implements Convertib
 		matrices.translate(0, this.getTextOffset(), 10);
 
 		var messages = this.getOrderedMessages();
+		var widths = this.getLineWidths(textRenderer);
 		for (int i = 0; i < messages.length; i++) {
 			var text = messages[i];
-			graphics.drawText(textRenderer, text, (int) (45 - textRenderer.getWidth(text) / 2.f), i * 10,
+			graphics.drawText(textRenderer, text, (int) (45 - widths[i] / 2.f), i * 10,
 					this.getText().getColor().getSignColor(), false
 			);
 		}
@@ -257,7 +341,11 @@ public abstract class SignTooltipComponent<M extends Model> implements Convertib
 	public static class Sign extends SignTooltipComponent<SignBlockEntityRenderer.SignModel> {
 
 		public Sign(SignType type, SignText front, SignText back) {
-			super(type, front, back, SignBlockEntityRenderer.createSignModel(CLIENT.getEntityModelLoader(), type));
+			this(type, ParsedSign.of(front, back, CLIENT.shouldFilterText()));
+		}
+
+		public Sign(SignType type, ParsedSign sign) {
+			super(type, sign, SignBlockEntityRenderer.createSignModel(CLIENT.getEntityModelLoader(), type));
 		}
 
 		@Override
@@ -299,7 +387,11 @@ public abstract class SignTooltipComponent<M extends Model> implements Convertib
 		private final Identifier textureId = new Identifier("textures/gui/hanging_signs/" + this.type.getName() + ".png");
 
 		public HangingSign(SignType type, SignText front, SignText back) {
-			super(type, front, back, null);
+			this(type, ParsedSign.of(front, back, CLIENT.shouldFilterText()));
+		}
+
+		public HangingSign(SignType type, ParsedSign sign) {
+			super(type, sign, null);
 		}
 
 		@Override
@@ -330,4 +422,40 @@ public abstract class SignTooltipComponent<M extends Model> implements Convertib
 			return 26;
 		}
 	}
+
+	/**
+	 * Represents a parsed sign, with its lines laid out.
+	 *
+	 * @param front the front text
+	 * @param back the back text
+	 * @param frontLines the laid out lines of the front text
+	 * @param backLines the laid out lines of the back text
+	 * @param filtered {@code true} if the lines are filtered, or {@code false} otherwise
+	 */
+	public record ParsedSign(@Nullable SignText front, @Nullable SignText back, OrderedText[] frontLines, OrderedText[] backLines,
+			boolean filtered) {
+		private static final OrderedText[] NO_LINES = new OrderedText[0];
+
+		public static ParsedSign of(@Nullable SignText front, @Nullable SignText back, boolean filtered) {
+			return new ParsedSign(front, back, layout(front, filtered), layout(back, filtered), filtered);
+		}
+
+		private static OrderedText[] layout(@Nullable SignText text, boolean filtered) {
+			return text == null ? NO_LINES : text.getOrderedMessages(filtered, Text::asOrderedText);
+		}
+
+		private record Key(NbtFingerprint front, NbtFingerprint back, boolean filtered) {
+			static Key of(NbtCompound nbt, boolean filtered) {
+				return new Key(
+						NbtFingerprint.of(nbt.contains("front_text") ? nbt.getCompound("front_text") : null),
+						NbtFingerprint.of(nbt.contains("back_text") ? nbt.getCompound("back_text") : null),
+						filtered
+				);
+			}
+
+			Key detach() {
+				return new Key(this.front.detach(), this.back.detach(), this.filtered);
+			}
+		}
+	}
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.tooltip;
+
+import com.mojang.blaze3d.lighting.DiffuseLighting;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.render.LightmapTextureManager;
+import net.minecraft.client.render.OverlayTexture;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.render.model.json.ModelTransformationMode;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a batch of inventory slots, with their background and their item, which are drawn together.
+ * <p>
+ * The slot backgrounds are tinted through their vertex color and drawn with a single draw call.
+ * The items are drawn into the shared vertex consumers and flushed once per GUI lighting,
+ * instead of once per item as {@link GuiGraphics#drawItem(ItemStack, int, int)} does.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+@ClientOnly
+public final class SlotBatch {
+	private static final Identifier STATS_ICONS_TEXTURE = new Identifier("textures/gui/container/stats_icons.png");
+	private static final int SLOT_SIZE = 18;
+	private static final float SLOT_UV = SLOT_SIZE / 128.f;
+	private static final int WHITE = 0xffffffff;
+
+	private final MinecraftClient client = MinecraftClient.getInstance();
+	private final GuiGraphics graphics;
+	private final List<ItemStack> stacks = new ArrayList<>();
+	// The position of the item and the background color of each slot, packed as x, y, color.
+	private final IntArrayList slots = new IntArrayList();
+
+	public SlotBatch(GuiGraphics graphics) {
+		this.graphics = graphics;
+	}
+
+	/**
+	 * Adds a slot to this batch.
+	 *
+	 * @param stack the stack to display in the slot
+	 * @param x the X coordinate of the item, the background is drawn one unit before
+	 * @param y the Y coordinate of the item, the background is drawn one unit before
+	 * @param color the color of the slot background as RGB components, or {@code null} for no tint
+	 */
+	public void add(ItemStack stack, int x, int y, @Nullable float[] color) {
+		this.stacks.add(stack);
+		this.slots.add(x);
+		this.slots.add(y);
+		this.slots.add(color == null ? WHITE : toArgb(color));
+	}
+
+	/**
+	 * Draws the slots of this batch, then clears it.
+	 *
+	 * @param textRenderer the text renderer used to draw the item counts
+	 */
+	public void draw(TextRenderer textRenderer) {
+		if (this.stacks.isEmpty())
+			return;
+
+		this.drawBackgrounds();
+		this.drawItems();
+
+		for (int i = 0; i < this.stacks.size(); i++) {
+			if (!this.stacks.get(i).isEmpty())
+				this.graphics.drawItemInSlot(textRenderer, this.stacks.get(i), this.getX(i), this.getY(i));
+		}
+
+		this.stacks.clear();
+		this.slots.clear();
+	}
+
+	/**
+	 * Draws a single slot background.
+	 *
+	 * @param graphics the graphics
+	 * @param x the X coordinate of the slot background
+	 * @param y the Y coordinate of the slot background
+	 * @param z the Z coordinate of the slot background
+	 * @param color the color of the slot background as RGB components, or {@code null} for no tint
+	 */
+	public static void drawBackground(GuiGraphics graphics, int x, int y, int z, @Nullable float[] color) {
+		var batch = DrawBackend.get().beginQuads(STATS_ICONS_TEXTURE);
+		emitBackground(batch, graphics.getMatrices().peek().getModel(), x, y, z, color == null ? WHITE : toArgb(color));
+		batch.end();
+	}
+
+	private void drawBackgrounds() {
+		var batch = DrawBackend.get().beginQuads(STATS_ICONS_TEXTURE);
+		var model = this.graphics.getMatrices().peek().getModel();
+
+		for (int i = 0; i < this.stacks.size(); i++) {
+			emitBackground(batch, model, this.getX(i) - 1, this.getY(i) - 1, 0, this.slots.getInt(i * 3 + 2));
+		}
+
+		batch.end();
+	}
+
+	private void drawItems() {
+		var models = new BakedModel[this.stacks.size()];
+		boolean hasItems = false;
+		boolean hasFlatItems = false;
+
+		for (int i = 0; i < models.length; i++) {
+			var stack = this.stacks.get(i);
+			if (stack.isEmpty())
+				continue;
+
+			models[i] = this.client.getItemRenderer().getModel(stack, this.client.world, this.client.player, 0);
+			hasItems = true;
+			hasFlatItems |= !models[i].isSideLit();
+		}
+
+		// Empty slots have nothing to flush.
+		if (!hasItems)
+			return;
+
+		// The GUI lighting is global state, so the items are drawn in one pass per lighting and flushed once per pass.
+		this.drawItems(models, true);
+
+		if (hasFlatItems) {
+			DiffuseLighting.setupFlatGuiLighting();
+			this.drawItems(models, false);
+			DiffuseLighting.setup3DGuiLighting();
+		}
+	}
+
+	private void drawItems(BakedModel[] models, boolean sideLit) {
+		var matrices = this.graphics.getMatrices();
+		var vertexConsumers = this.client.getBufferBuilders().getEntityVertexConsumers();
+
+		for (int i = 0; i < models.length; i++) {
+			var model = models[i];
+			if (model == null || model.isSideLit() != sideLit)
+				continue;
+
+			matrices.push();
+			matrices.translate(this.getX(i) + 8, this.getY(i) + 8, 150);
+			// Flips the Y axis of the positions only, so the normals and thus the lighting are left untouched.
+			matrices.peek().getModel().scale(1.f, -1.f, 1.f);
+			matrices.scale(16.f, 16.f, 16.f);
+			this.client.getItemRenderer().renderItem(this.stacks.get(i), ModelTransformationMode.GUI, false, matrices, vertexConsumers,
+					LightmapTextureManager.MAX_LIGHT_COORDINATE, OverlayTexture.DEFAULT_UV, model);
+			matrices.pop();
+		}
+
+		vertexConsumers.draw();
+	}
+
+	private int getX(int slot) {
+		return this.slots.getInt(slot * 3);
+	}
+
+	private int getY(int slot) {
+		return this.slots.getInt(slot * 3 + 1);
+	}
+
+	private static void emitBackground(DrawBackend.QuadBatch batch, Matrix4f model, int x, int y, int z, int color) {
+		batch.quad(model, x, y, x + SLOT_SIZE, y + SLOT_SIZE, z, 0.f, 0.f, SLOT_UV, SLOT_UV, color);
+	}
+
+	private static int toArgb(float[] color) {
+		return 0xff000000 | ((int) (color[0] * 255.f) << 16) | ((int) (color[1] * 255.f) << 8) | (int) (color[2] * 255.f);
+	}
+}
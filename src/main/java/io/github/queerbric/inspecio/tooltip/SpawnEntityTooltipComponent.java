@@ -19,6 +19,7 @@ package io.github.queerbric.inspecio.tooltip;
 
 import io.github.queerbric.inspecio.Inspecio;
 import io.github.queerbric.inspecio.InspecioConfig;
+import io.github.queerbric.inspecio.api.InspectionContext;
 import io.github.queerbric.inspecio.mixin.EntityAccessor;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
@@ -28,78 +29,82 @@ import net.minecraft.client.item.TooltipData;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
-import net.minecraft.item.BlockItem;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtElement;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.MobSpawnerLogic;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
 
 public class SpawnEntityTooltipComponent extends EntityTooltipComponent<InspecioConfig.EntityConfig> {
 	private final Entity entity;
+	private final @Nullable EntityPreviewPool.Handle handle;
 
 	public SpawnEntityTooltipComponent(InspecioConfig.EntityConfig config, Entity entity) {
+		this(config, entity, null);
+	}
+
+	private SpawnEntityTooltipComponent(InspecioConfig.EntityConfig config, Entity entity, @Nullable EntityPreviewPool.Handle handle) {
 		super(config);
 		this.entity = entity;
+		this.handle = handle;
 	}
 
 	public static Optional<TooltipData> of(EntityType<?> entityType, NbtCompound itemNbt) {
-		var entitiesConfig = Inspecio.getConfig().getEntitiesConfig();
-		if (!entitiesConfig.getSpawnEggConfig().isEnabled() || entityType == null)
+		var config = Inspecio.getSnapshot();
+		if (!config.getSpawnEggConfig().isEnabled() || entityType == null)
 			return Optional.empty();
 
-		var client = MinecraftClient.getInstance();
-		var entity = entityType.create(client.world);
-		if (entity != null) {
-			adjustEntity(entity, itemNbt, entitiesConfig);
-			var itemEntityNbt = itemNbt.getCompound("EntityTag").copy();
-
-			if (!itemEntityNbt.contains("VillagerData")) {
-				var villagerData = new NbtCompound();
-				villagerData.putString("profession", "minecraft:none");
-				villagerData.putInt("level", 1);
-				villagerData.putString("type", "minecraft:plains");
-				itemEntityNbt.put("VillagerData", villagerData);
-			}
+		var itemEntityNbt = itemNbt.getCompound("EntityTag").copy();
 
-			if (itemEntityNbt.contains(Entity.ID_KEY, NbtElement.STRING_TYPE)) { // The spawn egg specifies its own entity type.
-				var id = itemEntityNbt.getString(Entity.ID_KEY);
-				if (id.startsWith("minecraft:")) {
-					id = id.substring(10);
-				}
-				if (id.replaceAll("[^a-z0-9/._-]", "").matches(id)) {
-					itemEntityNbt.putString(Entity.ID_KEY, id);
-					Optional<EntityType<?>> specifiedEntityType = EntityType.fromNbt(itemEntityNbt);
-					if (specifiedEntityType.isPresent()) {
-						var actualEntity = specifiedEntityType.get().create(client.world);
-						if (actualEntity != null) {
-							entity = actualEntity;
-							adjustEntity(entity, itemNbt, entitiesConfig);
-						}
-					}
+		if (!itemEntityNbt.contains("VillagerData")) {
+			var villagerData = new NbtCompound();
+			villagerData.putString("profession", "minecraft:none");
+			villagerData.putInt("level", 1);
+			villagerData.putString("type", "minecraft:plains");
+			itemEntityNbt.put("VillagerData", villagerData);
+		}
+
+		if (itemEntityNbt.contains(Entity.ID_KEY, NbtElement.STRING_TYPE)) { // The spawn egg specifies its own entity type.
+			var id = itemEntityNbt.getString(Entity.ID_KEY);
+			if (id.startsWith("minecraft:")) {
+				id = id.substring(10);
+			}
+			if (id.replaceAll("[^a-z0-9/._-]", "").matches(id)) {
+				itemEntityNbt.putString(Entity.ID_KEY, id);
+				Optional<EntityType<?>> specifiedEntityType = EntityType.fromNbt(itemEntityNbt);
+				if (specifiedEntityType.isPresent()) {
+					entityType = specifiedEntityType.get();
 				}
 			}
+		}
 
-			var entityTag = entity.writeNbt(new NbtCompound());
+		var source = itemNbt.copy();
+		var handle = new EntityPreviewPool.Handle(entityType, source, config.getPufferFishPuffState(), (entity, entityTag) -> {
+			adjustEntity(entity, source, config);
 			var uuid = entity.getUuid();
 			entityTag.copyFrom(itemEntityNbt);
 			entity.setUuid(uuid);
 			entity.readNbt(entityTag);
-			return Optional.of(new SpawnEntityTooltipComponent(entitiesConfig.getSpawnEggConfig(), entity));
+		});
+
+		var entity = handle.acquire();
+		if (entity != null) {
+			return Optional.of(new SpawnEntityTooltipComponent(config.getSpawnEggConfig(), entity, handle));
 		}
 
 		return Optional.empty();
 	}
 
 	public static Optional<TooltipData> ofMobSpawner(ItemStack stack) {
-		var entitiesConfig = Inspecio.getConfig().getEntitiesConfig();
-		if (!entitiesConfig.getMobSpawnerConfig().isEnabled())
+		var config = Inspecio.getSnapshot();
+		if (!config.getMobSpawnerConfig().isEnabled())
 			return Optional.empty();
 
-		var nbt = BlockItem.getBlockEntityNbtFromStack(stack);
+		var nbt = InspectionContext.of(stack).getBlockEntityNbt();
 		if (nbt == null)
 			return Optional.empty();
 
@@ -114,7 +119,7 @@ public class SpawnEntityTooltipComponent extends EntityTooltipComponent<Inspecio
 
 		var entity = logic.getRenderedEntity(client.world, Inspecio.COMMON_RANDOM, client.player.getBlockPos());
 		if (entity != null) {
-			return Optional.of(new SpawnEntityTooltipComponent(entitiesConfig.getMobSpawnerConfig(), entity));
+			return Optional.of(new SpawnEntityTooltipComponent(config.getMobSpawnerConfig(), entity));
 		}
 
 		return Optional.empty();
@@ -136,13 +141,28 @@ public class SpawnEntityTooltipComponent extends EntityTooltipComponent<Inspecio
 			MatrixStack matrices = graphics.getMatrices();
 			matrices.push();
 			matrices.translate(30, 0, 0);
-			((EntityAccessor) this.entity).setTouchingWater(true);
-			this.entity.setVelocity(1.f, 1.f, 1.f);
-			this.renderEntity(matrices, x + 20, y + 20, this.entity, 0, this.config.shouldSpin(), true, 90.f);
+			var entity = this.getEntity();
+			((EntityAccessor) entity).setTouchingWater(true);
+			entity.setVelocity(1.f, 1.f, 1.f);
+			this.renderEntity(matrices, x + 20, y + 20, entity, 0, this.config.shouldSpin(), true, 90.f);
 			matrices.pop();
 		}
 	}
 
+	/**
+	 * {@return the entity to render}
+	 * <p>
+	 * Pooled entities are shared between tooltips, so they are acquired again to make sure they hold the data of this tooltip.
+	 */
+	protected Entity getEntity() {
+		if (this.handle != null) {
+			var entity = this.handle.acquire();
+			if (entity != null) return entity;
+		}
+
+		return this.entity;
+	}
+
 	@Override
 	protected boolean shouldRender() {
 		return this.entity != null;
@@ -150,6 +170,6 @@ public class SpawnEntityTooltipComponent extends EntityTooltipComponent<Inspecio
 
 	@Override
 	protected boolean shouldRenderCustomNames() {
-		return this.entity.hasCustomName() && (this.config.shouldAlwaysShowName() || Screen.hasControlDown());
+		return this.getEntity().hasCustomName() && (this.config.shouldAlwaysShowName() || Screen.hasControlDown());
 	}
 }
@@ -19,8 +19,10 @@ package io.github.queerbric.inspecio.tooltip;
 
 import com.google.common.collect.Lists;
 import com.mojang.datafixers.util.Pair;
+import io.github.queerbric.inspecio.ConfigSnapshot;
 import io.github.queerbric.inspecio.HiddenEffectMode;
 import io.github.queerbric.inspecio.Inspecio;
+import io.github.queerbric.inspecio.TooltipStats;
 import it.unimi.dsi.fastutil.floats.FloatArrayList;
 import it.unimi.dsi.fastutil.floats.FloatList;
 import net.minecraft.client.MinecraftClient;
@@ -30,7 +32,7 @@ import net.minecraft.client.gui.tooltip.TooltipComponent;
 import net.minecraft.client.render.LightmapTextureManager;
 import net.minecraft.client.render.VertexConsumerProvider.Immediate;
 import net.minecraft.client.resource.language.I18n;
-import net.minecraft.client.texture.StatusEffectSpriteManager;
+import net.minecraft.client.texture.Sprite;
 import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffectUtil;
@@ -41,13 +43,18 @@ import org.joml.Matrix4f;
 import org.quiltmc.qsl.tooltip.api.ConvertibleTooltipData;
 
 import java.util.List;
+import java.util.function.Function;
 
 public class StatusEffectTooltipComponent implements ConvertibleTooltipData, TooltipComponent {
 	private static final Identifier MYSTERY_TEXTURE = new Identifier(Inspecio.NAMESPACE, "textures/mob_effects/mystery.png");
+	private static final IconStrip MYSTERY_ICON = IconStrip.builder(MYSTERY_TEXTURE, 18, 18)
+			.add(0, 0, 0, 0, 18, 18, IconStrip.WHITE)
+			.build();
 	private List<StatusEffectInstance> list = Lists.newArrayList();
 	private final FloatList chances = new FloatArrayList();
 	private boolean hidden = false;
 	private float multiplier;
+	private IconStrip icons;
 
 	public StatusEffectTooltipComponent(List<StatusEffectInstance> list, float multiplier) {
 		this.list = list;
@@ -67,17 +74,17 @@ public class StatusEffectTooltipComponent implements ConvertibleTooltipData, Too
 	}
 
 	private Text getHiddenText() {
-		var effectsConfig = Inspecio.getConfig().getEffectsConfig();
-		boolean hiddenMotion = effectsConfig.hasHiddenMotion();
-		HiddenEffectMode hiddenEffectMode = effectsConfig.getHiddenEffectMode();
+		var config = Inspecio.getSnapshot();
+		boolean hiddenMotion = config.has(ConfigSnapshot.Flag.HIDDEN_MOTION);
+		HiddenEffectMode hiddenEffectMode = config.getHiddenEffectMode();
 
 		return hiddenEffectMode.stylize(Text.literal(hiddenEffectMode.getText(true, hiddenMotion)), hiddenMotion);
 	}
 
 	private Text getHiddenTime() {
-		var effectsConfig = Inspecio.getConfig().getEffectsConfig();
-		boolean hiddenMotion = effectsConfig.hasHiddenMotion();
-		HiddenEffectMode hiddenEffectMode = effectsConfig.getHiddenEffectMode();
+		var config = Inspecio.getSnapshot();
+		boolean hiddenMotion = config.has(ConfigSnapshot.Flag.HIDDEN_MOTION);
+		HiddenEffectMode hiddenEffectMode = config.getHiddenEffectMode();
 
 		String timeColon = hiddenEffectMode == HiddenEffectMode.ENCHANTMENT && hiddenMotion ? "i" : ":";
 
@@ -91,7 +98,7 @@ public class StatusEffectTooltipComponent implements ConvertibleTooltipData, Too
 
 	@Override
 	public TooltipComponent toComponent() {
-		return this;
+		return TooltipStats.wrap(this);
 	}
 
 	@Override
@@ -128,19 +135,38 @@ public class StatusEffectTooltipComponent implements ConvertibleTooltipData, Too
 	@Override
 	public void drawItems(TextRenderer textRenderer, int x, int y, GuiGraphics graphics) {
 		if (this.hidden) {
-			graphics.drawTexture(MYSTERY_TEXTURE, x, y, 0, 0, 18, 18, 18, 18);
+			MYSTERY_ICON.draw(graphics, x, y);
 		} else {
-			MinecraftClient client = MinecraftClient.getInstance();
-			StatusEffectSpriteManager statusEffectSpriteManager = client.getStatusEffectSpriteManager();
-			for (int i = 0; i < list.size(); i++) {
-				StatusEffectInstance statusEffectInstance = list.get(i);
-				StatusEffect statusEffect = statusEffectInstance.getEffectType();
-				var sprite = statusEffectSpriteManager.getSprite(statusEffect);
-				graphics.drawSprite(x, y + i * 20, 0, 18, 18, sprite);
-			}
+			if (this.icons == null)
+				this.icons = this.layoutIcons(MinecraftClient.getInstance().getStatusEffectSpriteManager()::getSprite);
+
+			this.icons.draw(graphics, x, y);
 		}
 	}
 
+	/**
+	 * Lays out the effect sprites, they all come from the same atlas.
+	 * <p>
+	 * The layout is kept for the lifetime of this component, which is discarded by the tooltip data cache when resources are reloaded.
+	 *
+	 * @param sprites the lookup of the effect sprites
+	 * @return the laid out effect sprites
+	 */
+	IconStrip layoutIcons(Function<StatusEffect, Sprite> sprites) {
+		IconStrip.Builder icons = null;
+
+		for (int i = 0; i < this.list.size(); i++) {
+			StatusEffect statusEffect = this.list.get(i).getEffectType();
+			var sprite = sprites.apply(statusEffect);
+
+			if (icons == null)
+				icons = IconStrip.builder(sprite.getAtlasId());
+			icons.add(0, i * 20, 18, 18, sprite, IconStrip.WHITE);
+		}
+
+		return icons == null ? IconStrip.builder(MYSTERY_TEXTURE).build() : icons.build();
+	}
+
 	@Override
 	public void drawText(TextRenderer textRenderer, int x, int y, Matrix4f model, Immediate immediate) {
 		if (this.hidden) {
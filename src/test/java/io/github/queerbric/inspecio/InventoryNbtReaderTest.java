@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtList;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Asserts that {@link InventoryNbtReader} answers from the slot compounds the same way decoding the inventory would.
+ */
+class InventoryNbtReaderTest {
+	@BeforeAll
+	static void bootstrap() {
+		SharedConstants.createGameVersion();
+		Bootstrap.initialize();
+	}
+
+	@Test
+	void emptyInventories() {
+		assertTrue(InventoryNbtReader.isEmpty(new NbtCompound(), 27));
+		assertTrue(InventoryNbtReader.isEmpty(inventory(slot(0, "minecraft:stone", 0, null)), 27));
+		assertTrue(InventoryNbtReader.isEmpty(inventory(slot(0, "minecraft:air", 1, null)), 27));
+		assertTrue(InventoryNbtReader.isEmpty(inventory(slot(0, "not an id", 1, null)), 27));
+		// Slots outside of the inventory are ignored.
+		assertTrue(InventoryNbtReader.isEmpty(inventory(slot(27, "minecraft:stone", 1, null)), 27));
+
+		assertFalse(InventoryNbtReader.isEmpty(inventory(slot(26, "minecraft:stone", 1, null)), 27));
+		assertNull(InventoryNbtReader.read(new NbtCompound(), 27));
+		assertNull(InventoryNbtReader.readCompacted(new NbtCompound(), 27));
+	}
+
+	@Test
+	void countDistinctStacks() {
+		var nbt = inventory(
+				slot(0, "minecraft:stone", 16, null),
+				slot(1, "minecraft:stone", 64, null),
+				slot(2, "minecraft:stone", 1, named("Named")),
+				slot(3, "minecraft:stone", 1, named("Named")),
+				slot(4, "minecraft:stone", 1, named("Other")),
+				slot(5, "minecraft:diamond", 2, null),
+				slot(30, "minecraft:emerald", 1, null)
+		);
+
+		// Plain stone, stone named "Named", stone named "Other" and diamonds, the emerald is out of range.
+		assertEquals(4, InventoryNbtReader.countDistinct(nbt, 27));
+		assertEquals(0, InventoryNbtReader.countDistinct(new NbtCompound(), 27));
+	}
+
+	@Test
+	void readCompactedMergesEqualTags() {
+		var nbt = inventory(
+				slot(0, "minecraft:stone", 16, null),
+				slot(1, "minecraft:stone", 1, named("Named")),
+				slot(2, "minecraft:stone", 32, null),
+				slot(3, "minecraft:stone", 2, named("Other")),
+				slot(4, "minecraft:stone", 3, named("Named"))
+		);
+
+		var compacted = InventoryNbtReader.readCompacted(nbt, 27);
+		assertNotNull(compacted);
+		assertEquals(3, compacted.size());
+		assertEquals(compacted.size(), InventoryNbtReader.countDistinct(nbt, 27));
+		assertTrue(InventoryNbtReader.isCompacted(compacted));
+
+		// In order of first appearance, with the counts of the merged slots.
+		assertSame(Items.STONE, compacted.get(0).getItem());
+		assertFalse(compacted.get(0).hasCustomName());
+		assertEquals(48, compacted.get(0).getCount());
+
+		assertEquals("Named", compacted.get(1).getName().getString());
+		assertEquals(4, compacted.get(1).getCount());
+
+		assertEquals("Other", compacted.get(2).getName().getString());
+		assertEquals(2, compacted.get(2).getCount());
+	}
+
+	@Test
+	void readKeepsSlots() {
+		var nbt = inventory(
+				slot(3, "minecraft:stone", 16, null),
+				slot(26, "minecraft:diamond", 2, null),
+				slot(27, "minecraft:emerald", 1, null)
+		);
+
+		var inventory = InventoryNbtReader.read(nbt, 27);
+		assertNotNull(inventory);
+		assertEquals(27, inventory.size());
+		assertSame(Items.STONE, inventory.get(3).getItem());
+		assertEquals(16, inventory.get(3).getCount());
+		assertSame(Items.DIAMOND, inventory.get(26).getItem());
+		assertTrue(inventory.get(0).isEmpty());
+		assertFalse(InventoryNbtReader.isCompacted(inventory));
+	}
+
+	private static NbtCompound inventory(NbtCompound... slots) {
+		var items = new NbtList();
+		for (var slot : slots) {
+			items.add(slot);
+		}
+
+		var nbt = new NbtCompound();
+		nbt.put("Items", items);
+		return nbt;
+	}
+
+	private static NbtCompound slot(int slot, String id, int count, @Nullable NbtCompound tag) {
+		var nbt = new NbtCompound();
+		nbt.putByte("Slot", (byte) slot);
+		nbt.putString("id", id);
+		nbt.putByte("Count", (byte) count);
+		if (tag != null)
+			nbt.put("tag", tag);
+		return nbt;
+	}
+
+	private static NbtCompound named(String name) {
+		var display = new NbtCompound();
+		display.putString("Name", "{\"text\":\"" + name + "\"}");
+
+		var tag = new NbtCompound();
+		tag.put("display", display);
+		return tag;
+	}
+}
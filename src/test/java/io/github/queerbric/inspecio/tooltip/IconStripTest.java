@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.tooltip;
+
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Asserts the layout of {@link IconStrip} as recorded by {@link RecordingDrawBackend}.
+ */
+class IconStripTest {
+	private static final Identifier TEXTURE = new Identifier("textures/gui/icons.png");
+
+	@BeforeAll
+	static void bootstrap() {
+		RenderTestBootstrap.initialize();
+	}
+
+	@Test
+	void drawsAllIconsInOneCall() {
+		var strip = IconStrip.builder(TEXTURE, 256, 256)
+				.add(0, 0, 16, 27, 9, 9, IconStrip.WHITE)
+				.add(9, 0, 52, 27, 9, 9, 0xff00ff00)
+				.build();
+
+		try (var recorder = RecordingDrawBackend.record()) {
+			strip.draw(RenderTestBootstrap.createGraphics(), 10, 20);
+
+			assertEquals(1, recorder.getDrawCalls().size());
+			assertEquals(8, recorder.getVertexCount());
+
+			var call = recorder.getDrawCalls().get(0);
+			assertEquals(TEXTURE, call.texture());
+
+			var first = call.quad(0);
+			assertEquals(10.f, first.x());
+			assertEquals(20.f, first.y());
+			assertEquals(16 / 256.f, first.u());
+			assertEquals(27 / 256.f, first.v());
+			assertEquals(IconStrip.WHITE, first.color());
+
+			var firstMax = call.vertices().get(2);
+			assertEquals(19.f, firstMax.x());
+			assertEquals(29.f, firstMax.y());
+			assertEquals(25 / 256.f, firstMax.u());
+			assertEquals(36 / 256.f, firstMax.v());
+
+			var second = call.quad(1);
+			assertEquals(19.f, second.x());
+			assertEquals(20.f, second.y());
+			assertEquals(0xff00ff00, second.color());
+		}
+	}
+
+	@Test
+	void appliesTheModelMatrix() {
+		var strip = IconStrip.builder(TEXTURE, 256, 256)
+				.add(0, 0, 16, 27, 9, 9, IconStrip.WHITE)
+				.build();
+		var graphics = RenderTestBootstrap.createGraphics();
+		graphics.getMatrices().translate(5.f, 7.f, 100.f);
+
+		try (var recorder = RecordingDrawBackend.record()) {
+			strip.draw(graphics, 10, 20);
+
+			var first = recorder.getDrawCalls().get(0).quad(0);
+			assertEquals(15.f, first.x());
+			assertEquals(27.f, first.y());
+			assertEquals(100.f, first.z());
+		}
+	}
+
+	@Test
+	void emptyStripDrawsNothing() {
+		var strip = IconStrip.builder(TEXTURE, 256, 256).build();
+
+		try (var recorder = RecordingDrawBackend.record()) {
+			strip.draw(RenderTestBootstrap.createGraphics(), 0, 0);
+
+			assertTrue(recorder.getDrawCalls().isEmpty());
+			assertTrue(recorder.getTextureBinds().isEmpty());
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.tooltip;
+
+import net.minecraft.util.Identifier;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a draw backend which records the texture binds, the shader color changes, the draw calls and the vertices
+ * instead of issuing them to the GPU.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+final class RecordingDrawBackend extends DrawBackend implements AutoCloseable {
+	private final List<Identifier> textureBinds = new ArrayList<>();
+	private final List<float[]> shaderColors = new ArrayList<>();
+	private final List<DrawCall> drawCalls = new ArrayList<>();
+	private final DrawBackend previous;
+
+	private RecordingDrawBackend() {
+		this.previous = DrawBackend.use(this);
+	}
+
+	/**
+	 * Starts recording, the previous backend is restored once the returned recorder is closed.
+	 *
+	 * @return the recorder
+	 */
+	static RecordingDrawBackend record() {
+		return new RecordingDrawBackend();
+	}
+
+	@Override
+	public QuadBatch beginQuads(Identifier texture) {
+		this.textureBinds.add(texture);
+		var vertices = new ArrayList<Vertex>();
+
+		return new QuadBatch() {
+			private final Vector3f position = new Vector3f();
+
+			@Override
+			public void quad(Matrix4f model, float minX, float minY, float maxX, float maxY, float z,
+					float minU, float minV, float maxU, float maxV, int color) {
+				this.vertex(model, minX, minY, z, minU, minV, color);
+				this.vertex(model, minX, maxY, z, minU, maxV, color);
+				this.vertex(model, maxX, maxY, z, maxU, maxV, color);
+				this.vertex(model, maxX, minY, z, maxU, minV, color);
+			}
+
+			private void vertex(Matrix4f model, float x, float y, float z, float u, float v, int color) {
+				model.transformPosition(x, y, z, this.position);
+				vertices.add(new Vertex(this.position.x(), this.position.y(), this.position.z(), u, v, color));
+			}
+
+			@Override
+			public void end() {
+				RecordingDrawBackend.this.drawCalls.add(new DrawCall(texture, List.copyOf(vertices)));
+			}
+		};
+	}
+
+	@Override
+	public void setShaderColor(float red, float green, float blue, float alpha) {
+		this.shaderColors.add(new float[]{red, green, blue, alpha});
+	}
+
+	/**
+	 * {@return the textures bound so far, in order}
+	 */
+	List<Identifier> getTextureBinds() {
+		return this.textureBinds;
+	}
+
+	/**
+	 * {@return the shader colors set so far, in order}
+	 */
+	List<float[]> getShaderColors() {
+		return this.shaderColors;
+	}
+
+	/**
+	 * {@return the draw calls issued so far, in order}
+	 */
+	List<DrawCall> getDrawCalls() {
+		return this.drawCalls;
+	}
+
+	/**
+	 * {@return the total amount of vertices drawn so far}
+	 */
+	int getVertexCount() {
+		return this.drawCalls.stream().mapToInt(call -> call.vertices().size()).sum();
+	}
+
+	/**
+	 * Forgets everything recorded so far.
+	 */
+	void reset() {
+		this.textureBinds.clear();
+		this.shaderColors.clear();
+		this.drawCalls.clear();
+	}
+
+	@Override
+	public void close() {
+		DrawBackend.use(this.previous);
+	}
+
+	/**
+	 * Represents a recorded draw call.
+	 *
+	 * @param texture the texture bound for the draw call
+	 * @param vertices the vertices of the draw call, four per quad
+	 */
+	record DrawCall(Identifier texture, List<Vertex> vertices) {
+		/**
+		 * {@return the amount of quads of this draw call}
+		 */
+		int quadCount() {
+			return this.vertices.size() / 4;
+		}
+
+		/**
+		 * Gets the first vertex of the given quad, which is its minimum corner.
+		 *
+		 * @param quad the index of the quad
+		 * @return the first vertex of the quad
+		 */
+		Vertex quad(int quad) {
+			return this.vertices.get(quad * 4);
+		}
+	}
+
+	/**
+	 * Represents a recorded vertex, with its position transformed by the model matrix.
+	 */
+	record Vertex(float x, float y, float z, float u, float v, int color) {
+	}
+}
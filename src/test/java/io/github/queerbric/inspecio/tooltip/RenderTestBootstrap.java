@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.tooltip;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.client.gui.GuiGraphics;
+
+/**
+ * Provides the shared setup of the headless render tests.
+ *
+ * @author LambdAurora
+ * @version 1.9.0
+ * @since 1.9.0
+ */
+final class RenderTestBootstrap {
+	private static boolean initialized = false;
+
+	private RenderTestBootstrap() {
+		throw new UnsupportedOperationException("RenderTestBootstrap only contains static definitions.");
+	}
+
+	/**
+	 * Bootstraps the game registries, this must be called before any game class is used.
+	 */
+	static synchronized void initialize() {
+		if (initialized)
+			return;
+
+		SharedConstants.createGameVersion();
+		Bootstrap.initialize();
+		initialized = true;
+	}
+
+	/**
+	 * Creates graphics without a client, which are only usable through their matrices and {@link DrawBackend}.
+	 *
+	 * @return the graphics
+	 */
+	static GuiGraphics createGraphics() {
+		return new GuiGraphics(null, null);
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 LambdAurora <email@lambdaurora.dev>, Emi
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.queerbric.inspecio.tooltip;
+
+import io.github.queerbric.inspecio.Inspecio;
+import net.minecraft.client.texture.MissingSprite;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.DyeColor;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.collection.DefaultedList;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Asserts the layout and the draw call budget of the tooltip components drawn through {@link DrawBackend}.
+ */
+class TooltipDrawCallTest {
+	private static final Identifier STATS_ICONS_TEXTURE = new Identifier("textures/gui/container/stats_icons.png");
+	private static final Identifier MOB_EFFECTS_ATLAS = new Identifier("textures/atlas/mob_effects.png");
+	private static final Identifier MYSTERY_TEXTURE = new Identifier(Inspecio.NAMESPACE, "textures/mob_effects/mystery.png");
+
+	@BeforeAll
+	static void bootstrap() {
+		RenderTestBootstrap.initialize();
+	}
+
+	@Test
+	void armorDrawsOneCall() {
+		try (var recorder = RecordingDrawBackend.record()) {
+			new ArmorTooltipComponent(5).drawItems(null, 0, 0, RenderTestBootstrap.createGraphics());
+
+			assertEquals(1, recorder.getDrawCalls().size());
+			assertEquals(3 * 4, recorder.getVertexCount());
+			assertTrue(recorder.getShaderColors().isEmpty());
+
+			var call = recorder.getDrawCalls().get(0);
+			assertEquals(Inspecio.GUI_ICONS_TEXTURE, call.texture());
+			// Two full armor icons followed by a half one.
+			assertEquals(34 / 256.f, call.quad(1).u());
+			assertEquals(18.f, call.quad(2).x());
+			assertEquals(25 / 256.f, call.quad(2).u());
+		}
+	}
+
+	@Test
+	void fullArmorDrawsOneCall() {
+		try (var recorder = RecordingDrawBackend.record()) {
+			new ArmorTooltipComponent(20).drawItems(null, 0, 0, RenderTestBootstrap.createGraphics());
+
+			assertEquals(1, recorder.getDrawCalls().size());
+			assertEquals(10 * 4, recorder.getVertexCount());
+		}
+	}
+
+	@Test
+	void foodDrawsOneCall() {
+		// A golden carrot, with the default merged saturation mode.
+		var food = new FoodTooltipComponent(6, 14.4f);
+
+		try (var recorder = RecordingDrawBackend.record()) {
+			food.drawItems(null, 0, 0, RenderTestBootstrap.createGraphics());
+
+			assertEquals(1, recorder.getDrawCalls().size());
+			assertTrue(recorder.getShaderColors().isEmpty());
+
+			var call = recorder.getDrawCalls().get(0);
+			assertEquals(Inspecio.GUI_ICONS_TEXTURE, call.texture());
+			// 3 hunger outlines, 15 saturation outlines and 3 hunger bars.
+			assertEquals(21, call.quadCount());
+
+			// The last saturation outline only covers the remaining 0.4 saturation.
+			var lastOutlineMax = call.vertices().get((3 + 14) * 4 + 2);
+			assertEquals(14 * 9 + 4, lastOutlineMax.x());
+
+			// The cached layout must draw the same.
+			recorder.reset();
+			food.drawItems(null, 0, 0, RenderTestBootstrap.createGraphics());
+			assertEquals(1, recorder.getDrawCalls().size());
+			assertEquals(call.vertices(), recorder.getDrawCalls().get(0).vertices());
+		}
+	}
+
+	@Test
+	void inventoryBackgroundsDrawOneCall() {
+		var inventory = DefaultedList.ofSize(27, ItemStack.EMPTY);
+
+		try (var recorder = RecordingDrawBackend.record()) {
+			new InventoryTooltipComponent(inventory, 9, null).drawItems(null, 0, 0, RenderTestBootstrap.createGraphics());
+
+			assertEquals(1, recorder.getDrawCalls().size());
+			assertEquals(27 * 4, recorder.getVertexCount());
+			assertTrue(recorder.getShaderColors().isEmpty());
+
+			var call = recorder.getDrawCalls().get(0);
+			assertEquals(STATS_ICONS_TEXTURE, call.texture());
+
+			for (int slot = 0; slot < inventory.size(); slot++) {
+				var vertex = call.quad(slot);
+				assertEquals(slot % 9 * 18, vertex.x());
+				assertEquals(slot / 9 * 18, vertex.y());
+				assertEquals(0xffffffff, vertex.color());
+			}
+		}
+	}
+
+	@Test
+	void inventoryBackgroundsAreTintedPerVertex() {
+		var inventory = DefaultedList.ofSize(27, ItemStack.EMPTY);
+		var components = DyeColor.RED.getColorComponents();
+		int expectedColor = 0xff000000 | ((int) (components[0] * 255.f) << 16) | ((int) (components[1] * 255.f) << 8)
+				| (int) (components[2] * 255.f);
+
+		try (var recorder = RecordingDrawBackend.record()) {
+			new InventoryTooltipComponent(inventory, 9, DyeColor.RED).drawItems(null, 0, 0, RenderTestBootstrap.createGraphics());
+
+			assertEquals(1, recorder.getDrawCalls().size());
+			assertTrue(recorder.getShaderColors().isEmpty());
+			recorder.getDrawCalls().get(0).vertices().forEach(vertex -> assertEquals(expectedColor, vertex.color()));
+		}
+	}
+
+	@Test
+	void singleSlotDrawsOneCallEach() {
+		var graphics = RenderTestBootstrap.createGraphics();
+
+		try (var recorder = RecordingDrawBackend.record()) {
+			for (int i = 0; i < 3; i++) {
+				InventoryTooltipComponent.drawSlot(graphics, i * 18, 0, 0, null);
+			}
+
+			assertEquals(3, recorder.getDrawCalls().size());
+			assertEquals(3 * 4, recorder.getVertexCount());
+		}
+	}
+
+	@Test
+	void statusEffectsDrawOneCall() {
+		var effects = new StatusEffectTooltipComponent(List.of(
+				new StatusEffectInstance(StatusEffects.SPEED, 200),
+				new StatusEffectInstance(StatusEffects.REGENERATION, 200),
+				new StatusEffectInstance(StatusEffects.NIGHT_VISION, 200)
+		), 1.f);
+		// Every effect is given the same 16x16 sprite from the mob effects atlas, at (16, 32) in a 64x64 atlas.
+		var sprite = new Sprite(MOB_EFFECTS_ATLAS, MissingSprite.createSpriteContents(), 64, 64, 16, 32) {};
+		var icons = effects.layoutIcons(effect -> sprite);
+
+		try (var recorder = RecordingDrawBackend.record()) {
+			icons.draw(RenderTestBootstrap.createGraphics(), 0, 0);
+
+			assertEquals(1, recorder.getDrawCalls().size());
+			assertEquals(3 * 4, recorder.getVertexCount());
+			assertTrue(recorder.getShaderColors().isEmpty());
+
+			var call = recorder.getDrawCalls().get(0);
+			assertEquals(MOB_EFFECTS_ATLAS, call.texture());
+
+			for (int i = 0; i < 3; i++) {
+				var vertex = call.quad(i);
+				assertEquals(0.f, vertex.x());
+				assertEquals(i * 20.f, vertex.y());
+				assertEquals(sprite.getMinU(), vertex.u());
+				assertEquals(sprite.getMinV(), vertex.v());
+			}
+		}
+	}
+
+	@Test
+	void hiddenStatusEffectDrawsOneCall() {
+		try (var recorder = RecordingDrawBackend.record()) {
+			new StatusEffectTooltipComponent().drawItems(null, 0, 0, RenderTestBootstrap.createGraphics());
+
+			assertEquals(1, recorder.getDrawCalls().size());
+			assertEquals(4, recorder.getVertexCount());
+
+			var call = recorder.getDrawCalls().get(0);
+			assertEquals(MYSTERY_TEXTURE, call.texture());
+			assertEquals(0.f, call.quad(0).u());
+			assertEquals(18.f, call.vertices().get(2).x());
+		}
+	}
+
+	@Test
+	void unlitCampfireDrawsOneCall() {
+		// Drawing items and the fire sprite requires the client, so the campfire is empty and unlit.
+		var inventory = DefaultedList.ofSize(4, ItemStack.EMPTY);
+
+		try (var recorder = RecordingDrawBackend.record()) {
+			new CampfireTooltipComponent(inventory, null).drawItems(null, 0, 0, RenderTestBootstrap.createGraphics());
+
+			assertEquals(1, recorder.getDrawCalls().size());
+			assertEquals(4 * 4, recorder.getVertexCount());
+			assertTrue(recorder.getShaderColors().isEmpty());
+
+			var call = recorder.getDrawCalls().get(0);
+			assertEquals(STATS_ICONS_TEXTURE, call.texture());
+
+			// The slots are laid out around the fire, starting from the bottom right one.
+			int[][] slots = {{36, 36}, {0, 36}, {0, 0}, {36, 0}};
+			for (int slot = 0; slot < slots.length; slot++) {
+				assertEquals(slots[slot][0], call.quad(slot).x());
+				assertEquals(slots[slot][1], call.quad(slot).y());
+			}
+		}
+	}
+}